@@ -0,0 +1,35 @@
+package com.smartcampus.back.post.cache;
+
+import com.smartcampus.back.post.dto.post.PostDetailResponse;
+
+/**
+ * ETag가 붙은 게시글 상세 응답
+ *
+ * @param etag 강한 ETag (따옴표 포함)
+ * @param response 상세 응답
+ */
+public record CachedPostDetail(String etag, PostDetailResponse response) {
+
+    /**
+     * 조회수만 바꾼 사본 (ETag는 조회수와 무관하므로 그대로 유지)
+     */
+    public CachedPostDetail withViewCount(int viewCount) {
+        return new CachedPostDetail(etag, response.toBuilder().viewCount(viewCount).build());
+    }
+
+    /**
+     * 클라이언트가 보낸 If-None-Match 값이 현재 버전과 일치하는지 확인
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.strip();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package com.smartcampus.back.post.cache;
+
+import com.smartcampus.back.post.counter.ViewCountBuffer;
+import com.smartcampus.back.post.dto.attachment.FileDownloadResponse;
+import com.smartcampus.back.post.dto.post.PostDetailResponse;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.event.ViewCountsFlushedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 상세 응답 캐시 (애플리케이션 메모리, LRU)
+ *
+ * <p>게시글 ID마다 완성된 {@link PostDetailResponse}와 그 버전(ETag)을 보관하여,
+ * 변경이 없는 동안에는 게시글/첨부파일 조회와 다운로드 정보 생성 없이 응답합니다.
+ * ETag는 수정 시각과 첨부파일 목록으로 만들며, 조회수는 버전에 포함하지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>게시글 수정/삭제, 첨부파일 변경 이벤트를 커밋 이후 받아 해당 항목을 제거</li>
+ *     <li>조회수는 캐시된 값에 {@link ViewCountsFlushedEvent}로 반영된 증가분을 더해 DB와 맞춤</li>
+ *     <li>이벤트와 조회수 반영은 같은 인스턴스 안에서만 전달되므로, 다른 인스턴스에서 일어난 변경과 조회수가
+ *         늦어도 {@code ttl-ms} 뒤에는 반영되도록 항목을 만료시킴</li>
+ *     <li>변경이나 조회수 반영과 겹쳐 읽은 응답은 오래된 값일 수 있으므로 캐시하지 않음 ({@link Stamp})</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    /**
+     * 최대 보관 게시글 수
+     */
+    @Value("${post.detail-cache.max-entries:1000}")
+    private int maxEntries;
+
+    /**
+     * 항목 보관 시간 (다른 인스턴스의 변경이 보이기까지의 최대 지연)
+     */
+    @Value("${post.detail-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    private long invalidations;
+
+    /**
+     * 캐시된 상세 응답 조회
+     *
+     * @param postId 게시글 ID
+     * @return 캐시된 응답 (없으면 null)
+     */
+    public synchronized CachedPostDetail get(Long postId) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.cachedAt() >= TimeUnit.MILLISECONDS.toNanos(ttlMs)) {
+            entries.remove(postId);
+            return null;
+        }
+        return entry.detail();
+    }
+
+    /**
+     * DB 조회 직전에 현재 상태를 기록합니다. 조회 결과는 이 상태가 바뀌지 않았을 때만 캐시됩니다.
+     */
+    public synchronized Stamp stamp() {
+        return new Stamp(invalidations, viewCountBuffer.flushSequence());
+    }
+
+    /**
+     * DB에서 읽은 상세 응답에 ETag를 붙이고, 읽는 동안 변경이 없었으면 캐시합니다.
+     *
+     * @param postId 게시글 ID
+     * @param stamp DB 조회 직전에 받은 {@link #stamp()}
+     * @param response 상세 응답 (조회수는 DB 값)
+     * @return ETag가 붙은 응답
+     */
+    public synchronized CachedPostDetail put(Long postId, Stamp stamp, PostDetailResponse response) {
+        CachedPostDetail detail = new CachedPostDetail(etagOf(response), response);
+        if (stamp.flushSequence() % 2 == 0 && stamp.equals(stamp())) {
+            entries.put(postId, new Entry(detail, System.nanoTime()));
+        }
+        return detail;
+    }
+
+    /**
+     * 게시글 변경 이벤트 수신 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case UPDATED, DELETED, ATTACHMENTS_CHANGED -> evict(event.getPostId());
+            default -> {
+                // 좋아요/댓글 수는 상세 응답에 포함되지 않고, 조회수는 반영 이벤트로 갱신
+            }
+        }
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 캐시된 응답에 더합니다.
+     */
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        event.getDeltas().forEach((postId, delta) -> entries.computeIfPresent(postId, (id, cached) -> new Entry(
+                cached.detail().withViewCount(cached.detail().response().getViewCount() + delta.intValue()),
+                cached.cachedAt())));
+    }
+
+    /**
+     * 게시글 항목 제거
+     */
+    public synchronized void evict(Long postId) {
+        invalidations++;
+        entries.remove(postId);
+    }
+
+    /**
+     * 수정 시각과 첨부파일 목록(ID, 이름, 크기)으로 강한 ETag를 만듭니다.
+     */
+    private static String etagOf(PostDetailResponse response) {
+        StringBuilder source = new StringBuilder()
+                .append(response.getPostId()).append('|')
+                .append(response.getUpdatedAt());
+        if (response.getAttachments() != null) {
+            response.getAttachments().stream()
+                    .sorted(Comparator.comparing(FileDownloadResponse::getFileId))
+                    .forEach(file -> source.append('|').append(file.getFileId())
+                            .append(':').append(file.getOriginFileName())
+                            .append(':').append(file.getFileSize()));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 보관 항목 (응답, 캐시한 시각)
+     */
+    private record Entry(CachedPostDetail detail, long cachedAt) {
+    }
+
+    /**
+     * 캐시 상태 (무효화 횟수, 조회수 반영 순번)
+     */
+    public record Stamp(long invalidations, long flushSequence) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.smartcampus.back.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcampus.back.post.dto.post.PostResponse;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시글 피드(GET /api/posts) 앞쪽 페이지를 Redis에 보관하는 캐시
+ *
+ * <p>키 구조</p>
+ * <ul>
+ *     <li>post:feed:page:{page}:{size} - 직렬화된 PostResponse 리스트</li>
+ *     <li>post:feed:keys - 현재 캐시된 페이지 키 집합 (전체 무효화용)</li>
+ *     <li>post:feed:post:{postId} - 해당 게시글이 포함된 페이지 키 집합 (정밀 무효화용)</li>
+ *     <li>post:feed:generation - 무효화할 때마다 1씩 올리는 세대 번호</li>
+ * </ul>
+ *
+ * <p>게시글 생성/삭제는 모든 페이지의 경계를 밀어내므로 전체를 비우고,
+ * 수정·좋아요·댓글 변경은 그 게시글이 실린 페이지만 비웁니다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB 조회로 동작합니다.</p>
+ *
+ * <p>쓰기의 커밋 후 무효화보다 먼저 DB에서 페이지를 읽은 조회가 무효화 뒤에 그 페이지를 저장하면,
+ * 오래된 페이지가 TTL 동안 남습니다. 조회는 DB를 읽기 전에 세대 번호({@link #stamp()})를 받아 두고,
+ * 저장 스크립트는 세대 번호가 그대로일 때만 페이지를 기록합니다. 무효화는 세대 번호를 먼저 올린 뒤 페이지를 지우므로,
+ * 무효화와 겹쳐 읽은 페이지는 저장되지 않거나 저장 직후 지워집니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFeedCache {
+
+    private static final String PAGE_KEY_PREFIX = "post:feed:page:";
+    private static final String PAGE_KEYS = "post:feed:keys";
+    private static final String POST_PAGES_PREFIX = "post:feed:post:";
+    private static final String GENERATION_KEY = "post:feed:generation";
+    private static final TypeReference<List<PostResponse>> PAGE_TYPE = new TypeReference<>() {};
+
+    /**
+     * KEYS[1]=세대 번호, KEYS[2]=페이지 키, KEYS[3]=페이지 키 집합, KEYS[4..]=게시글 → 페이지 역색인
+     * ARGV[1]=조회 전에 받은 세대 번호, ARGV[2]=TTL(초), ARGV[3]=직렬화된 페이지
+     * 반환: 저장했으면 1, 그사이 무효화가 있었으면 0
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SETEX', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('SADD', KEYS[3], KEYS[2])
+            for i = 4, #KEYS do
+                redis.call('SADD', KEYS[i], KEYS[2])
+                redis.call('EXPIRE', KEYS[i], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시할 앞쪽 페이지 수
+     */
+    @Value("${post.feed-cache.pages:3}")
+    private int cachedPages;
+
+    /**
+     * 캐시할 최대 페이지 크기 (임의 size 요청으로 키가 늘어나는 것을 방지)
+     */
+    @Value("${post.feed-cache.max-size:50}")
+    private int maxPageSize;
+
+    /**
+     * 페이지 TTL (초) - 무효화 누락에 대한 안전장치
+     */
+    @Value("${post.feed-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시 대상 페이지인지 확인합니다.
+     */
+    public boolean isCacheable(int page, int size) {
+        return page >= 0 && page < cachedPages && size > 0 && size <= maxPageSize;
+    }
+
+    /**
+     * 캐시된 페이지를 조회합니다.
+     *
+     * @return 캐시 적중 시 게시글 목록, 미적중 또는 Redis 오류 시 empty
+     */
+    public Optional<List<PostResponse>> get(int page, int size) {
+        try {
+            String json = redisTemplate.opsForValue().get(pageKey(page, size));
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, PAGE_TYPE));
+        } catch (DataAccessException | JsonProcessingException e) {
+            System.err.println("⚠️ 피드 캐시 조회 실패: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 조회 직전에 현재 세대 번호를 받습니다. 조회 결과는 세대 번호가 바뀌지 않았을 때만 저장됩니다.
+     *
+     * @return 세대 번호 (Redis 오류 시 -1, 이 경우 저장하지 않음)
+     */
+    public long stamp() {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+            return generation == null ? 0 : Long.parseLong(generation);
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 피드 캐시 세대 조회 실패: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 읽는 동안 무효화가 없었으면 페이지를 캐시에 저장하고, 게시글 → 페이지 역색인을 함께 기록합니다.
+     *
+     * @param stamp DB 조회 직전에 받은 {@link #stamp()}
+     */
+    public void put(int page, int size, long stamp, List<PostResponse> posts) {
+        if (stamp < 0) {
+            return;
+        }
+        String key = pageKey(page, size);
+        try {
+            List<String> keys = new ArrayList<>(posts.size() + 3);
+            keys.add(GENERATION_KEY);
+            keys.add(key);
+            keys.add(PAGE_KEYS);
+            posts.forEach(post -> keys.add(POST_PAGES_PREFIX + post.getPostId()));
+            redisTemplate.execute(PUT_SCRIPT, keys,
+                    Long.toString(stamp), Long.toString(ttlSeconds), objectMapper.writeValueAsString(posts));
+        } catch (DataAccessException | JsonProcessingException e) {
+            System.err.println("⚠️ 피드 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 변경 이벤트를 트랜잭션 커밋 이후에 반영합니다.
+     * 커밋 전에 비우면 동시 조회가 이전 데이터를 다시 채울 수 있으므로 AFTER_COMMIT 시점에 처리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, DELETED -> evictAll();
+            case UPDATED, LIKED, UNLIKED, COMMENTED, UNCOMMENTED -> evictPost(event.getPostId());
+            case VIEWED -> {
+                // 조회수는 TTL 동안의 지연을 허용 (조회마다 피드를 비우지 않음)
+            }
+            case ATTACHMENTS_CHANGED -> {
+                // 목록에는 첨부파일 정보가 없음
+            }
+        }
+    }
+
+    /**
+     * 특정 게시글이 포함된 페이지만 제거합니다.
+     */
+    public void evictPost(Long postId) {
+        String postKey = POST_PAGES_PREFIX + postId;
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            Set<String> pageKeys = redisTemplate.opsForSet().members(postKey);
+            List<String> toDelete = new ArrayList<>();
+            toDelete.add(postKey);
+            if (pageKeys != null) {
+                toDelete.addAll(pageKeys);
+                if (!pageKeys.isEmpty()) {
+                    redisTemplate.opsForSet().remove(PAGE_KEYS, pageKeys.toArray());
+                }
+            }
+            redisTemplate.delete(toDelete);
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 피드 캐시 무효화 실패 (postId=" + postId + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 모든 페이지를 제거합니다.
+     * 게시글 역색인 키는 TTL로 자연 소멸하며, 이미 지워진 페이지를 가리켜도 무해합니다.
+     */
+    public void evictAll() {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            Set<String> pageKeys = redisTemplate.opsForSet().members(PAGE_KEYS);
+            List<String> toDelete = new ArrayList<>();
+            toDelete.add(PAGE_KEYS);
+            if (pageKeys != null) {
+                toDelete.addAll(pageKeys);
+            }
+            redisTemplate.delete(toDelete);
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 피드 캐시 전체 무효화 실패: " + e.getMessage());
+        }
+    }
+
+    private String pageKey(int page, int size) {
+        return PAGE_KEY_PREFIX + page + ":" + size;
+    }
+}
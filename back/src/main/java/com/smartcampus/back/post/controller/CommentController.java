@@ -2,15 +2,18 @@ package com.smartcampus.back.post.controller;
 
 import com.smartcampus.back.post.dto.comment.CommentCreateRequest;
 import com.smartcampus.back.post.dto.comment.CommentResponse;
+import com.smartcampus.back.post.dto.comment.CommentSliceResponse;
 import com.smartcampus.back.post.dto.comment.CommentUpdateRequest;
+import com.smartcampus.back.post.exception.InvalidPageRequestException;
 import com.smartcampus.back.post.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
  * 댓글 관련 요청을 처리하는 REST 컨트롤러
- * 댓글 생성, 수정, 삭제 기능 제공
+ * 댓글 목록 조회, 생성, 수정, 삭제 기능 제공
  */
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
@@ -19,6 +22,34 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    /**
+     * 댓글 목록 요청에서 받을 수 있는 최대 페이지 크기
+     */
+    @Value("${post.paging.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 댓글 목록 조회 (커서 기반)
+     * 댓글마다 앞쪽 대댓글 일부와 전체 대댓글 수를 함께 반환
+     *
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기 (1 ~ post.paging.max-size, 벗어나면 400)
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    @GetMapping
+    public ResponseEntity<CommentSliceResponse> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidPageRequestException("size는 1 이상 " + maxPageSize + " 이하여야 합니다.");
+        }
+        CommentSliceResponse response = commentService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 댓글 작성
      *
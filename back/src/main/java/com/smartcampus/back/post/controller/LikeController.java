@@ -1,5 +1,7 @@
 package com.smartcampus.back.post.controller;
 
+import com.smartcampus.back.post.dto.like.LikeBatchStatusRequest;
+import com.smartcampus.back.post.dto.like.LikeBatchStatusResponse;
 import com.smartcampus.back.post.dto.like.LikeResponse;
 import com.smartcampus.back.post.service.LikeService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,16 @@ public class LikeController {
 
     private final LikeService likeService;
 
+    /**
+     * 좋아요 상태 일괄 조회 (피드 렌더링용)
+     * 게시글/댓글/대댓글 목록의 좋아요 여부와 개수를 한 번의 요청으로 반환
+     */
+    @PostMapping("/batch-status")
+    public ResponseEntity<LikeBatchStatusResponse> getBatchStatus(@RequestBody LikeBatchStatusRequest request) {
+        LikeBatchStatusResponse response = likeService.getBatchStatus(request);
+        return ResponseEntity.ok(response);
+    }
+
     // --- 게시글 좋아요 ---
 
     /**
@@ -1,14 +1,20 @@
 package com.smartcampus.back.post.controller;
 
+import com.smartcampus.back.post.dto.notification.DeviceTokenRequest;
 import com.smartcampus.back.post.dto.notification.NotificationRequest;
 import com.smartcampus.back.post.dto.notification.MulticastNotificationRequest;
+import com.smartcampus.back.post.dto.notification.MulticastNotificationResponse;
 import com.smartcampus.back.post.dto.notification.NotificationResponse;
+import com.smartcampus.back.post.exception.InvalidNotificationRequestException;
+import com.smartcampus.back.post.notification.MulticastResult;
+import com.smartcampus.back.post.service.DeviceTokenService;
 import com.smartcampus.back.post.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * FCM 푸시 알림 전송 및 알림 로그 관련 기능을 제공하는 컨트롤러입니다.
@@ -19,39 +25,103 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final DeviceTokenService deviceTokenService;
 
     /**
-     * 단일 사용자에게 FCM 푸시 알림을 전송합니다.
-     * <p>실제 푸시 전송만 수행하며, DB에는 로그를 저장하지 않습니다.</p>
+     * 단일 사용자에게 보낼 FCM 푸시 알림을 접수합니다.
+     * <p>전송은 비동기로 이루어지므로 FCM 응답을 기다리지 않고 202 Accepted를 반환합니다.</p>
      *
-     * @param request {@link NotificationRequest} targetToken, title, body 포함
-     * @return 전송 결과 메시지
+     * <p>targetUserId가 있으면 알림 로그와 발송 대기 항목을 함께 저장하고 커밋 직후 반환하며,
+     * 그 사용자의 등록된 모든 디바이스로의 전송은 발송 릴레이가 이어서 처리합니다.
+     * 없으면 targetToken으로 바로 전송하며(로그 없음), 발송 대기열이 가득 차면 503을 반환합니다.</p>
+     *
+     * @param request {@link NotificationRequest} targetUserId 또는 targetToken, title, body 포함
+     * @return 접수 결과 메시지
      */
     @PostMapping("/send")
     public ResponseEntity<String> sendNotification(@RequestBody NotificationRequest request) {
+        if (request.getTargetUserId() != null) {
+            notificationService.sendNotificationToUser(
+                    request.getTargetUserId(),
+                    request.getTitle(),
+                    request.getBody()
+            );
+            return ResponseEntity.accepted().body("✅ 알림 전송이 접수되었습니다.");
+        }
+        if (request.getTargetToken() == null || request.getTargetToken().isBlank()) {
+            throw new InvalidNotificationRequestException("targetUserId 또는 targetToken이 필요합니다.");
+        }
         notificationService.sendNotificationToToken(
                 request.getTargetToken(),
                 request.getTitle(),
                 request.getBody()
         );
-        return ResponseEntity.ok("✅ 단일 알림이 성공적으로 전송되었습니다.");
+        return ResponseEntity.accepted().body("✅ 단일 알림 전송이 접수되었습니다.");
     }
 
     /**
      * 여러 사용자에게 FCM 푸시 알림을 전송합니다.
-     * <p>최대 500명의 대상에게 동시에 전송되며, DB에는 로그를 저장하지 않습니다.</p>
      *
-     * @param request {@link MulticastNotificationRequest} targetTokens, title, body 포함
-     * @return 전송 결과 메시지
+     * <p>targetUserIds가 있으면 사용자마다 알림 로그와 발송 대기 항목을 한 트랜잭션으로 저장하고, 커밋 직후
+     * 202 Accepted로 접수한 사용자 수를 반환합니다. 등록된 모든 디바이스로의 전송은 발송 릴레이가 이어서 처리합니다.</p>
+     *
+     * <p>없으면 targetTokens로 바로 전송합니다(로그 없음). 대상 수에 제한이 없으며 500개씩 나누어 동시에 전송하고,
+     * 요청 스레드를 잡지 않고 비동기로 기다렸다가 토큰별 결과 집계를 반환합니다.</p>
+     *
+     * @param request {@link MulticastNotificationRequest} targetUserIds 또는 targetTokens, title, body 포함
+     * @return 접수 결과 메시지, 또는 성공/실패 수와 실패 코드별 집계
      */
     @PostMapping("/send-multiple")
-    public ResponseEntity<String> sendNotificationToMultiple(@RequestBody MulticastNotificationRequest request) {
-        notificationService.sendNotificationToMultipleTokens(
+    public CompletableFuture<ResponseEntity<?>> sendNotificationToMultiple(
+            @RequestBody MulticastNotificationRequest request) {
+        if (request.getTargetUserIds() != null && !request.getTargetUserIds().isEmpty()) {
+            int accepted = notificationService.sendNotificationToUsers(
+                    request.getTargetUserIds(),
+                    request.getTitle(),
+                    request.getBody()
+            );
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.accepted().body("✅ " + accepted + "명에게 알림 전송이 접수되었습니다."));
+        }
+        if (request.getTargetTokens() == null || request.getTargetTokens().isEmpty()) {
+            throw new InvalidNotificationRequestException("targetUserIds 또는 targetTokens가 필요합니다.");
+        }
+        CompletableFuture<MulticastResult> sending = notificationService.sendNotificationToMultipleTokens(
                 request.getTargetTokens(),
                 request.getTitle(),
                 request.getBody()
         );
-        return ResponseEntity.ok("✅ 다중 알림이 성공적으로 전송되었습니다.");
+        return sending.thenApply(result -> ResponseEntity.ok(MulticastNotificationResponse.builder()
+                .tokenCount(result.tokenCount())
+                .successCount(result.successCount())
+                .failureCount(result.failureCount())
+                .failuresByCode(result.failuresByCode())
+                .build()));
+    }
+
+    /**
+     * 디바이스 FCM 토큰을 등록합니다.
+     * <p>앱 실행 및 토큰 갱신 시마다 호출하며, 이미 등록된 토큰이면 소유 사용자와 마지막 등록 시각을 갱신합니다.</p>
+     *
+     * @param request {@link DeviceTokenRequest} userId, token, platform 포함
+     * @return 등록 결과 메시지
+     */
+    @PostMapping("/devices")
+    public ResponseEntity<String> registerDevice(@RequestBody DeviceTokenRequest request) {
+        deviceTokenService.register(request.getUserId(), request.getToken(), request.getPlatform());
+        return ResponseEntity.ok("✅ 디바이스가 등록되었습니다.");
+    }
+
+    /**
+     * 디바이스 FCM 토큰 등록을 해제합니다. (로그아웃 시)
+     *
+     * @param token 해제할 FCM 토큰
+     * @return 해제 결과 메시지
+     */
+    @DeleteMapping("/devices")
+    public ResponseEntity<String> unregisterDevice(@RequestParam String token) {
+        deviceTokenService.unregister(token);
+        return ResponseEntity.ok("✅ 디바이스 등록이 해제되었습니다.");
     }
 
     /**
@@ -1,10 +1,18 @@
 package com.smartcampus.back.post.controller;
 
+import com.smartcampus.back.post.cache.CachedPostDetail;
 import com.smartcampus.back.post.dto.post.*;
+import com.smartcampus.back.post.exception.InvalidPageRequestException;
+import com.smartcampus.back.post.search.PostSuggester;
+import com.smartcampus.back.post.service.PostBundleService;
 import com.smartcampus.back.post.service.PostService;
+import com.smartcampus.back.post.service.TrendingService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +30,15 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostBundleService postBundleService;
+    private final TrendingService trendingService;
+    private final PostSuggester postSuggester;
+
+    /**
+     * 목록/자동완성 요청에서 받을 수 있는 최대 크기
+     */
+    @Value("${post.paging.max-size:100}")
+    private int maxPageSize;
 
     /**
      * 게시글을 생성합니다.
@@ -68,28 +85,92 @@ public class PostController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        List<PostResponse> responseList = postService.getPostList(page, size);
+        if (page < 0) {
+            throw new InvalidPageRequestException("page는 0 이상이어야 합니다.");
+        }
+        List<PostResponse> responseList = postService.getPostList(page, requireSize(size));
+        return ResponseEntity.ok(responseList);
+    }
+
+    /**
+     * 게시글 목록을 커서 기반으로 조회합니다.
+     * - after 파라미터가 있으면 이 매핑이 선택되며, 빈 값이면 첫 페이지를 반환합니다.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<PostSliceResponse> getPostSlice(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PostSliceResponse response = postService.getPostSlice(after, requireSize(size));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 조회수, 좋아요, 댓글에 시간 감쇠를 적용한 인기 게시글 목록을 조회합니다.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponse>> getTrendingPosts(@RequestParam(defaultValue = "10") int size) {
+        List<PostResponse> responseList = trendingService.getTrendingPosts(requireSize(size));
         return ResponseEntity.ok(responseList);
     }
 
     /**
      * 게시글 상세 정보를 조회하고 조회수를 1 증가시킵니다.
+     * - 같은 조회자(viewerId, 없으면 클라이언트 주소, 신뢰하는 프록시 뒤에서는 {@link com.smartcampus.back.post.counter.UniqueViewCounter} 참고)의 반복 조회는 일정 시간 동안 한 번만 집계합니다.
+     * - 응답에 ETag를 붙이며, If-None-Match가 현재 버전과 같으면 조회수를 올리지 않고 본문 없이 304를 반환합니다.
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDetailResponse> getPostDetail(@PathVariable Long postId) {
-        PostDetailResponse response = postService.getPostDetailAndIncreaseView(postId);
+    public ResponseEntity<PostDetailResponse> getPostDetail(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long viewerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request
+    ) {
+        CachedPostDetail detail = postService.getPostDetailAndIncreaseView(postId, viewerId, request.getRemoteAddr(), ifNoneMatch);
+        if (detail.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(detail.etag()).build();
+        }
+        return ResponseEntity.ok().eTag(detail.etag()).body(detail.response());
+    }
+
+    /**
+     * 게시글 화면에 필요한 상세, 좋아요, 댓글 첫 페이지와 대댓글 미리보기를 한 번에 조회합니다. (조회수 증가 포함)
+     * - viewerId가 있으면 게시글/댓글/대댓글별 좋아요 여부를 함께 반환합니다.
+     * - 나머지 댓글은 응답의 nextCursor로 댓글 목록 API에서 이어 받습니다.
+     */
+    @GetMapping("/{postId}/bundle")
+    public ResponseEntity<PostBundleResponse> getPostBundle(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long viewerId,
+            HttpServletRequest request
+    ) {
+        PostBundleResponse response = postBundleService.getBundle(postId, viewerId, request.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 게시글을 제목 또는 내용 기준으로 검색합니다.
+     * 게시글을 검색합니다.
+     * - keyword, writerId, isPublic, startDate, endDate 중 전달된 조건만 적용합니다.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword) {
-        List<PostResponse> responseList = postService.searchPosts(keyword);
+    public ResponseEntity<List<PostResponse>> searchPosts(@ModelAttribute PostSearchCondition condition) {
+        List<PostResponse> responseList = postService.searchPosts(condition);
         return ResponseEntity.ok(responseList);
     }
 
+    /**
+     * 입력 중인 검색어로 시작하는 자동완성 후보를 조회합니다.
+     * - 키 입력마다 호출되므로 트랜잭션 없이 메모리 사전에서 바로 응답합니다.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<String> suggestions = postSuggester.suggest(prefix, requireSize(size));
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * 게시글에 연결된 첨부파일을 단건 다운로드합니다.
      */
@@ -116,4 +197,14 @@ public class PostController {
         postService.deleteAttachment(postId, fileId, writerId);
         return ResponseEntity.ok("첨부파일이 성공적으로 삭제되었습니다.");
     }
+
+    /**
+     * 요청 크기가 1 이상 최대 크기 이하인지 검증합니다.
+     */
+    private int requireSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidPageRequestException("size는 1 이상 " + maxPageSize + " 이하여야 합니다.");
+        }
+        return size;
+    }
 }
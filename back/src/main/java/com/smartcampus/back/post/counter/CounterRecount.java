@@ -0,0 +1,78 @@
+package com.smartcampus.back.post.counter;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 비정규화 카운터 재계산기
+ *
+ * <p>posts.like_count/comment_count, post_comments.like_count/reply_count, comment_replies.like_count를
+ * 원본 행(likes, post_comments, comment_replies)을 세어 다시 채웁니다.
+ * 카운터 컬럼을 추가한 직후의 기존 행은 모두 0에서 시작하므로, 채워진 DB에 배포할 때 한 번 실행해야
+ * 이전부터 있던 좋아요를 취소해 카운터가 음수가 되는 일이 없습니다.</p>
+ *
+ * <ul>
+ *     <li>대상 ID 구간 단위로 UPDATE 한 문장씩 실행하므로 잠금을 오래 쥐지 않고, 여러 번 실행해도 결과가 같음</li>
+ *     <li>분할 카운터의 샤드 행은 재계산 값에 포함되므로 먼저 비움</li>
+ * </ul>
+ *
+ * <p>{@code post.counter.recount-on-startup=true}로 기동하면 {@link com.smartcampus.back.post.like.LegacyLikeMigration}이
+ * 이전 좋아요를 옮긴 뒤, 웹 서버가 요청을 받기 전에 실행합니다. 실행 중 들어온 토글이 덮어써지지 않도록
+ * 다른 노드를 모두 멈춘 상태에서 한 노드로 실행하고, 끝나면 설정을 끈 채 다시 배포합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterRecount {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 문장으로 다시 셀 대상 ID 구간의 크기
+     */
+    @Value("${post.counter.recount.batch-size:1000}")
+    private long batchSize;
+
+    /**
+     * 모든 비정규화 카운터를 다시 셉니다.
+     *
+     * @return 갱신된 행 수 (게시글 + 댓글 + 대댓글)
+     */
+    public long recountAll() {
+        jdbcTemplate.update("DELETE FROM like_counter_shards");
+
+        long updated = recount("posts",
+                "like_count = (SELECT COUNT(*) FROM likes l WHERE l.target_type = " + LikeTargetType.POST.getCode()
+                        + " AND l.target_id = t.id), "
+                        + "comment_count = (SELECT COUNT(*) FROM post_comments c WHERE c.post_id = t.id)");
+        updated += recount("post_comments",
+                "like_count = (SELECT COUNT(*) FROM likes l WHERE l.target_type = " + LikeTargetType.COMMENT.getCode()
+                        + " AND l.target_id = t.id), "
+                        + "reply_count = (SELECT COUNT(*) FROM comment_replies r WHERE r.comment_id = t.id)");
+        updated += recount("comment_replies",
+                "like_count = (SELECT COUNT(*) FROM likes l WHERE l.target_type = " + LikeTargetType.REPLY.getCode()
+                        + " AND l.target_id = t.id)");
+        System.out.println("✅ 비정규화 카운터 재계산 완료 (" + updated + "행)");
+        return updated;
+    }
+
+    private long recount(String table, String assignments) {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + table);
+        if (range.get("min_id") == null) {
+            return 0;
+        }
+
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        String sql = "UPDATE " + table + " t SET " + assignments + " WHERE t.id >= ? AND t.id < ?";
+        long updated = 0;
+        for (long from = minId; from <= maxId; from += batchSize) {
+            updated += jdbcTemplate.update(sql, from, Math.min(from + batchSize, maxId + 1));
+        }
+        return updated;
+    }
+}
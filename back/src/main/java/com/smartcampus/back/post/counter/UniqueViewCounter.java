@@ -0,0 +1,69 @@
+package com.smartcampus.back.post.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 고유 조회자 판별기 (Redis HyperLogLog)
+ *
+ * <p>게시글과 시간 구간마다 HyperLogLog 하나({@code post:viewers:{postId}:{window}})에 조회자를 PFADD 합니다.
+ * PFADD는 처음 보는 조회자일 때만 1을 반환하므로, 같은 사용자의 새로고침이나 반복 진입은 구간 내에서 한 번만 집계됩니다.
+ * 게시글당 최대 약 12KB(조회자가 적으면 수백 바이트)만 사용하며, 구간이 끝나면 키가 만료됩니다.</p>
+ *
+ * <p>HyperLogLog 특성상 드물게 새 조회자를 중복으로 판단해 집계하지 않을 수 있습니다. (표준 오차 약 0.81%)</p>
+ *
+ * <p>비로그인 조회자는 {@code request.getRemoteAddr()}로 구분하며, 애플리케이션은 전달 헤더를 기본으로 신뢰하지 않습니다.
+ * (클라이언트가 X-Forwarded-For를 요청마다 바꿔 보내면 중복 판별을 피할 수 있으므로)
+ * 신뢰할 수 있는 로드 밸런서/리버스 프록시 뒤에 배포할 때만 다음 중 하나로 클라이언트 주소를 받아옵니다.</p>
+ * <ul>
+ *     <li>{@code server.forward-headers-strategy=native} + {@code server.tomcat.remoteip.internal-proxies}에 프록시 주소 대역 지정
+ *         (Tomcat RemoteIpValve가 신뢰하는 프록시가 붙인 헤더만 반영, 권장)</li>
+ *     <li>{@code server.forward-headers-strategy=framework} (Spring ForwardedHeaderFilter, 프록시가 클라이언트의 전달 헤더를
+ *         반드시 덮어쓰는 환경에서만 사용)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class UniqueViewCounter {
+
+    private static final String KEY_PREFIX = "post:viewers:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 같은 조회자를 한 번만 집계하는 시간 구간
+     */
+    @Value("${post.view-count.unique-window-minutes:60}")
+    private long windowMinutes;
+
+    /**
+     * 이번 구간에 처음 조회한 사용자인지 기록하고 판별합니다.
+     * Redis를 사용할 수 없으면 조회를 집계하는 쪽으로 처리합니다.
+     *
+     * @param postId 게시글 ID
+     * @param viewerKey 조회자 식별 값 (사용자 ID 또는 클라이언트 주소)
+     * @return 이번 구간의 첫 조회이면 true
+     */
+    public boolean recordView(Long postId, String viewerKey) {
+        Duration window = Duration.ofMinutes(windowMinutes);
+        long windowNo = System.currentTimeMillis() / window.toMillis();
+        String key = KEY_PREFIX + postId + ":" + windowNo;
+
+        try {
+            Long added = redisTemplate.opsForHyperLogLog().add(key, viewerKey);
+            if (added != null && added > 0) {
+                redisTemplate.expire(key, window);
+                return true;
+            }
+            return false;
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 고유 조회자 판별 실패 (postId=" + postId + "): " + e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.smartcampus.back.post.counter;
+
+import com.smartcampus.back.post.event.ViewCountsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ *
+ * <p>조회마다 게시글 행을 갱신하면 같은 행에 대한 쓰기가 직렬화되고, 읽고-더하고-저장하는 방식은 동시 요청 시 증가분을 잃습니다.
+ * 대신 게시글별 {@link LongAdder}에 메모리로 누적해 두었다가, 주기적으로 변경된 게시글마다
+ * {@code UPDATE posts SET view_count = view_count + ?} 한 건씩을 하나의 배치로 DB에 반영합니다.
+ * 누적기의 생성/제거와 증가는 맵의 같은 원자적 연산 안에서 처리하므로, 제거와 겹친 증가분도 잃지 않습니다.</p>
+ *
+ * <p>반영에 실패한 증가분은 버퍼로 되돌려 다음 주기에 다시 시도합니다.
+ * 반영에 성공하면 {@link ViewCountsFlushedEvent}를 발행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 반영 진행 순번 (반영 중에는 홀수) - DB 값과 버퍼를 함께 보는 캐시가 반영과 겹친 조회를 판별하는 데 사용
+     */
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 직전 반영 주기에 증가분이 없었던 게시글 (다음 주기에도 없으면 버퍼에서 제거)
+     */
+    private final Set<Long> idle = new HashSet<>();
+
+    /**
+     * 조회수를 누적합니다.
+     *
+     * @param postId 게시글 ID
+     * @param delta 증가분
+     */
+    public void add(Long postId, long delta) {
+        // 증가를 compute 안에서 하여, 반영 주기가 같은 항목을 제거하는 것과 겹쳐도 버려진 누적기에 더해지지 않도록 함
+        pending.compute(postId, (id, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.add(delta);
+            return adder;
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     *
+     * @param postId 게시글 ID
+     * @return 누적된 증가분
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 현재 반영 진행 순번 (홀수이면 반영 중)
+     */
+    public long flushSequence() {
+        return flushSequence.get();
+    }
+
+    /**
+     * 누적된 증가분을 DB에 배치로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:3000}")
+    @PreDestroy
+    public synchronized void flush() {
+        flushSequence.incrementAndGet();
+        try {
+            flushPending();
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+    }
+
+    private void flushPending() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+
+            if (delta == 0 && idle.remove(postId)) {
+                // 두 주기 연속 조회가 없던 게시글만 제거 (증가와 같은 원자적 연산 안에서, 그 사이 증가분이 없을 때만)
+                pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+            } else if (delta == 0) {
+                idle.add(postId);
+            } else {
+                idle.remove(postId);
+            }
+
+            if (delta != 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            batch.forEach(row -> add((Long) row[1], (Long) row[0]));
+            System.err.println("⚠️ 조회수 반영 실패 (" + batch.size() + "건, 다음 주기에 재시도): " + e.getMessage());
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        batch.forEach(row -> deltas.put((Long) row[1], (Long) row[0]));
+        eventPublisher.publishEvent(new ViewCountsFlushedEvent(deltas));
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartcampus.back.post.dto.comment;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 응답 DTO
+ * 한 페이지 분량의 댓글(대댓글 미리보기 포함)과 다음 페이지 요청에 사용할 커서를 함께 반환
+ */
+@Getter
+@Builder
+public class CommentSliceResponse {
+
+    /**
+     * 댓글 목록 (작성순)
+     */
+    private List<CommentThreadResponse> comments;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
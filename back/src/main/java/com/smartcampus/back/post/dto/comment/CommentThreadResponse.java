@@ -0,0 +1,62 @@
+package com.smartcampus.back.post.dto.comment;
+
+import com.smartcampus.back.post.dto.reply.ReplyResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대댓글을 포함한 댓글 응답 DTO
+ * 게시글 화면 묶음 조회에서 댓글별 좋아요 정보와 대댓글 목록을 함께 반환
+ */
+@Getter
+@Builder
+public class CommentThreadResponse {
+
+    /**
+     * 댓글 ID
+     */
+    private Long commentId;
+
+    /**
+     * 댓글 내용
+     */
+    private String content;
+
+    /**
+     * 댓글 작성자 ID
+     */
+    private Long writerId;
+
+    /**
+     * 작성 시각
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정 시각
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 좋아요 수
+     */
+    private int likeCount;
+
+    /**
+     * 조회한 사용자가 좋아요를 눌렀는지 여부
+     */
+    private boolean liked;
+
+    /**
+     * 대댓글 수
+     */
+    private int replyCount;
+
+    /**
+     * 대댓글 목록 (작성순)
+     */
+    private List<ReplyResponse> replies;
+}
@@ -0,0 +1,35 @@
+package com.smartcampus.back.post.dto.like;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 좋아요 상태 일괄 조회 요청 DTO
+ * 피드 한 화면에 보이는 게시글/댓글/대댓글의 좋아요 여부와 개수를 한 번에 요청할 때 사용
+ */
+@Getter
+@Setter
+public class LikeBatchStatusRequest {
+
+    /**
+     * 조회하는 사용자 ID (없으면 좋아요 여부는 모두 false)
+     */
+    private Long userId;
+
+    /**
+     * 조회할 게시글 ID 목록
+     */
+    private List<Long> postIds;
+
+    /**
+     * 조회할 댓글 ID 목록
+     */
+    private List<Long> commentIds;
+
+    /**
+     * 조회할 대댓글 ID 목록
+     */
+    private List<Long> replyIds;
+}
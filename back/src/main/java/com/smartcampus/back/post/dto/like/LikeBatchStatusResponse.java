@@ -0,0 +1,30 @@
+package com.smartcampus.back.post.dto.like;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좋아요 상태 일괄 조회 응답 DTO
+ * 요청 순서대로 대상별 좋아요 여부와 개수를 반환하며, 존재하지 않는 대상은 제외됩니다.
+ */
+@Getter
+@Builder
+public class LikeBatchStatusResponse {
+
+    /**
+     * 게시글 좋아요 상태 목록
+     */
+    private List<LikeStatusResponse> posts;
+
+    /**
+     * 댓글 좋아요 상태 목록
+     */
+    private List<LikeStatusResponse> comments;
+
+    /**
+     * 대댓글 좋아요 상태 목록
+     */
+    private List<LikeStatusResponse> replies;
+}
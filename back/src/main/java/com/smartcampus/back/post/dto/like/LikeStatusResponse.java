@@ -0,0 +1,27 @@
+package com.smartcampus.back.post.dto.like;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대상 하나의 좋아요 상태 DTO
+ */
+@Getter
+@Builder
+public class LikeStatusResponse {
+
+    /**
+     * 대상(게시글/댓글/대댓글) ID
+     */
+    private Long targetId;
+
+    /**
+     * 사용자가 좋아요를 누른 상태인지 여부
+     */
+    private boolean liked;
+
+    /**
+     * 총 좋아요 수
+     */
+    private long likeCount;
+}
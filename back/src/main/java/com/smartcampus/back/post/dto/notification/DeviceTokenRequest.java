@@ -0,0 +1,33 @@
+package com.smartcampus.back.post.dto.notification;
+
+import com.smartcampus.back.post.enums.DevicePlatform;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 디바이스 FCM 토큰 등록 요청 DTO
+ */
+@Getter
+@Setter
+public class DeviceTokenRequest {
+
+    /**
+     * 디바이스 소유 사용자 ID
+     */
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private Long userId;
+
+    /**
+     * 디바이스의 FCM 토큰
+     */
+    @NotBlank(message = "FCM 토큰은 필수입니다.")
+    private String token;
+
+    /**
+     * 디바이스 플랫폼 (ANDROID, IOS, WEB)
+     */
+    @NotNull(message = "플랫폼은 필수입니다.")
+    private DevicePlatform platform;
+}
@@ -1,8 +1,6 @@
 package com.smartcampus.back.post.dto.notification;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotEmpty;
-import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,12 +14,15 @@ import java.util.List;
 public class MulticastNotificationRequest {
 
     /**
-     * 최대 500개의 FCM 토큰 리스트
+     * FCM 토큰 리스트 (개수 제한 없음, 500개씩 나누어 전송, targetUserIds가 없을 때 사용)
      */
-    @NotEmpty(message = "최소 1개 이상의 토큰이 필요합니다.")
-    @Size(max = 500, message = "최대 500개의 토큰만 지원됩니다.")
     private List<@NotBlank String> targetTokens;
 
+    /**
+     * 알림을 받을 사용자 ID 리스트 (등록된 모든 디바이스로 전송, targetTokens보다 우선)
+     */
+    private List<Long> targetUserIds;
+
     /**
      * 알림 제목
      */
@@ -0,0 +1,34 @@
+package com.smartcampus.back.post.dto.notification;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * FCM 다중 사용자 푸시 알림 전송 결과 DTO
+ */
+@Getter
+@Builder
+public class MulticastNotificationResponse {
+
+    /**
+     * 중복을 제거한 대상 토큰 수
+     */
+    private int tokenCount;
+
+    /**
+     * 전송에 성공한 토큰 수
+     */
+    private int successCount;
+
+    /**
+     * 전송에 실패한 토큰 수
+     */
+    private int failureCount;
+
+    /**
+     * 실패 코드별 토큰 수 (예: UNREGISTERED, INVALID_ARGUMENT)
+     */
+    private Map<String, Long> failuresByCode;
+}
@@ -12,11 +12,15 @@ import lombok.Setter;
 public class NotificationRequest {
 
     /**
-     * 알림을 받을 디바이스의 FCM 토큰
+     * 알림을 받을 디바이스의 FCM 토큰 (targetUserId가 없을 때 사용)
      */
-    @NotBlank(message = "FCM 토큰은 필수입니다.")
     private String targetToken;
 
+    /**
+     * 알림을 받을 사용자 ID (등록된 모든 디바이스로 전송, targetToken보다 우선)
+     */
+    private Long targetUserId;
+
     /**
      * 알림 제목
      */
@@ -0,0 +1,51 @@
+package com.smartcampus.back.post.dto.post;
+
+import com.smartcampus.back.post.dto.comment.CommentThreadResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 화면 묶음 응답 DTO
+ * 게시글 상세, 좋아요 정보, 댓글 첫 페이지와 대댓글 미리보기를 한 번에 반환
+ */
+@Getter
+@Builder
+public class PostBundleResponse {
+
+    /**
+     * 게시글 상세
+     */
+    private PostDetailResponse post;
+
+    /**
+     * 게시글 좋아요 수
+     */
+    private int likeCount;
+
+    /**
+     * 조회한 사용자가 게시글에 좋아요를 눌렀는지 여부
+     */
+    private boolean liked;
+
+    /**
+     * 댓글 수 (게시글 목록과 같은 posts.comment_count 카운터)
+     */
+    private int commentCount;
+
+    /**
+     * 댓글 첫 페이지 (작성순, 댓글마다 앞쪽 대댓글 미리보기 포함)
+     */
+    private List<CommentThreadResponse> comments;
+
+    /**
+     * 다음 댓글 페이지 커서 (댓글 목록 API의 cursor로 사용, 마지막 페이지이면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 댓글 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
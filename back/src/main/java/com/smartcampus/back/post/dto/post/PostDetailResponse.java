@@ -12,7 +12,7 @@ import java.util.List;
  * 클라이언트가 특정 게시글을 조회할 때 제공되는 상세 데이터
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostDetailResponse {
 
     /**
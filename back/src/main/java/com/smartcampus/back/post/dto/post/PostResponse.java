@@ -2,15 +2,17 @@ package com.smartcampus.back.post.dto.post;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 /**
  * 게시글 목록 출력용 DTO
- * 게시글 리스트 화면에서 사용되는 요약 정보 구조
+ * 게시글 리스트 화면에서 사용되는 요약 정보 구조 (피드 캐시 역직렬화를 위해 @Jacksonized 적용)
  */
 @Getter
 @Builder
+@Jacksonized
 public class PostResponse {
 
     /**
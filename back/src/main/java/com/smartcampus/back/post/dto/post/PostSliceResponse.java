@@ -0,0 +1,30 @@
+package com.smartcampus.back.post.dto.post;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답 DTO
+ * 한 페이지 분량의 게시글과 다음 페이지 요청에 사용할 커서를 함께 반환
+ */
+@Getter
+@Builder
+public class PostSliceResponse {
+
+    /**
+     * 게시글 요약 목록
+     */
+    private List<PostResponse> posts;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
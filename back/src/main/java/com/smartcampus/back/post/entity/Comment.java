@@ -2,6 +2,7 @@ package com.smartcampus.back.post.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +14,9 @@ import java.util.List;
  * 게시글에 작성된 댓글 정보 저장
  */
 @Entity
-@Table(name = "post_comments")
+@Table(name = "post_comments", indexes = {
+        @Index(name = "idx_comments_post_created_at_id", columnList = "post_id, created_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -37,6 +40,20 @@ public class Comment {
     @Column(nullable = false)
     private Long writerId;
 
+    /**
+     * 좋아요 수 (비정규화 카운터, CommentRepository의 원자적 UPDATE로만 증감)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
+    /**
+     * 대댓글 수 (비정규화 카운터)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int replyCount;
+
     /**
      * 작성된 시간
      */
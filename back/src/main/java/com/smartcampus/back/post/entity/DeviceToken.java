@@ -0,0 +1,59 @@
+package com.smartcampus.back.post.entity;
+
+import com.smartcampus.back.post.enums.DevicePlatform;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 디바이스의 FCM 토큰을 저장하는 엔티티입니다.
+ * 한 사용자는 여러 디바이스를 가질 수 있으며, 토큰 하나는 한 사용자에게만 속합니다.
+ * FCM이 더 이상 유효하지 않다고 응답한 토큰은 자동으로 삭제됩니다.
+ */
+@Entity
+@Table(name = "device_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_device_tokens_token", columnNames = "token"),
+        indexes = {
+                @Index(name = "idx_device_tokens_user", columnList = "user_id"),
+                @Index(name = "idx_device_tokens_last_seen", columnList = "last_seen")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeviceToken {
+
+    /**
+     * 디바이스 토큰 고유 ID (PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 디바이스 소유 사용자 ID
+     */
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * FCM 등록 토큰
+     */
+    @Column(nullable = false, length = 512)
+    private String token;
+
+    /**
+     * 디바이스 플랫폼
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DevicePlatform platform;
+
+    /**
+     * 앱이 마지막으로 토큰을 등록한 시각 (오래 갱신되지 않은 토큰은 정리 대상)
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastSeen;
+}
@@ -8,10 +8,19 @@ import java.time.LocalDateTime;
 
 /**
  * 게시글, 댓글, 대댓글에 대한 '좋아요'를 표현하는 엔티티입니다.
- * 복합 키(사용자 + 대상(post/comment/reply))로 구성되며, 하나의 Like는 하나의 대상에만 연결됩니다.
+ * (대상 유형, 대상 ID, 사용자 ID) 복합 키 하나로 모든 대상을 담습니다.
+ *
+ * <ul>
+ *     <li>기본 키 (target_type, target_id, user_id) - 대상의 좋아요 사용자 목록, 단건 좋아요 여부</li>
+ *     <li>idx_likes_user_target (user_id, target_type, target_id) - 사용자가 좋아요한 대상 목록 (커버링)</li>
+ * </ul>
+ *
+ * <p>대상 테이블과의 외래 키는 없으므로, 대상을 삭제할 때 {@code LikeRepository}로 함께 지웁니다.</p>
  */
 @Entity
-@Table(name = "post_likes")
+@Table(name = "likes", indexes = {
+        @Index(name = "idx_likes_user_target", columnList = "user_id, target_type, target_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,38 +29,11 @@ import java.time.LocalDateTime;
 public class Like {
 
     /**
-     * 복합 키 (userId + postId/commentId/replyId)
+     * 복합 키 (대상 유형 + 대상 ID + 사용자 ID)
      */
     @EmbeddedId
     private LikeId id;
 
-    /**
-     * 게시글 좋아요 대상 (nullable)
-     * 복합 키의 postId와 매핑됩니다.
-     */
-    @MapsId("postId")
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id")
-    private Post post;
-
-    /**
-     * 댓글 좋아요 대상 (nullable)
-     * 복합 키의 commentId와 매핑됩니다.
-     */
-    @MapsId("commentId")
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "comment_id")
-    private Comment comment;
-
-    /**
-     * 대댓글 좋아요 대상 (nullable)
-     * 복합 키의 replyId와 매핑됩니다.
-     */
-    @MapsId("replyId")
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "reply_id")
-    private Reply reply;
-
     /**
      * 좋아요 생성 시각
      */
@@ -0,0 +1,33 @@
+package com.smartcampus.back.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 좋아요가 몰리는 대상의 분할 카운터 엔티티
+ * 대상의 like_count 한 행에 쓰기가 몰리지 않도록 증감분을 여러 행에 나눠 담으며,
+ * 실제 좋아요 수는 대상의 like_count와 모든 샤드 값의 합입니다.
+ */
+@Entity
+@Table(name = "like_counter_shards")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeCounterShard {
+
+    /**
+     * 복합 키 (대상 유형 + 대상 ID + 샤드 번호)
+     */
+    @EmbeddedId
+    private LikeCounterShardId id;
+
+    /**
+     * 이 샤드에 누적된 좋아요 증감분 (대상 카운터로 옮겨지기 전까지의 값, 음수일 수 있음)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int likeCount;
+}
@@ -0,0 +1,30 @@
+package com.smartcampus.back.post.entity;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * LikeCounterShard 엔티티의 복합 키 클래스입니다.
+ * 대상 유형, 대상 ID, 샤드 번호의 조합으로 구성됩니다.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LikeCounterShardId implements Serializable {
+
+    @Convert(converter = LikeTargetTypeConverter.class)
+    @Column(nullable = false)
+    private LikeTargetType targetType;  // 대상 유형 (TINYINT 코드)
+
+    private Long targetId;              // 대상 ID
+
+    private int shard;                  // 샤드 번호 (0 ~ 샤드 수 - 1)
+}
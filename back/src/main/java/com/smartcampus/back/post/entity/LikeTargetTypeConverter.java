@@ -0,0 +1,22 @@
+package com.smartcampus.back.post.entity;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 좋아요 대상 유형을 1바이트 코드(TINYINT)로 저장하는 변환기
+ */
+@Converter
+public class LikeTargetTypeConverter implements AttributeConverter<LikeTargetType, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(LikeTargetType type) {
+        return type == null ? null : type.getCode();
+    }
+
+    @Override
+    public LikeTargetType convertToEntityAttribute(Byte code) {
+        return code == null ? null : LikeTargetType.fromCode(code);
+    }
+}
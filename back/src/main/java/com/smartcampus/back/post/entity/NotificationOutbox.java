@@ -0,0 +1,100 @@
+package com.smartcampus.back.post.entity;
+
+import com.smartcampus.back.post.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기(outbox) 엔티티입니다.
+ * 알림 로그({@link Notification})와 같은 트랜잭션에 저장되어, 로그가 커밋된 알림만 빠짐없이 발송되도록 합니다.
+ * 발송은 중계기가 이 테이블을 주기적으로 읽어 수행하며, 항목마다 최종 상태가 한 번만 기록됩니다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_available", columnList = "status, available_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    /**
+     * 발송 대기 항목 ID (PK, 발송 순서)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 함께 저장된 알림 로그 ID
+     */
+    private Long notificationId;
+
+    /**
+     * 수신자 ID (등록된 모든 디바이스로 발송)
+     */
+    @Column(nullable = false)
+    private Long userId;
+
+    /**
+     * 알림 제목
+     */
+    @Column(nullable = false)
+    private String title;
+
+    /**
+     * 알림 본문
+     */
+    @Column(nullable = false)
+    private String body;
+
+    /**
+     * 발송 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OutboxStatus status;
+
+    /**
+     * 발송 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 이 시각 이후에 발송 (재시도 대기)
+     */
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * 전송 중 항목을 가져간 중계 작업 식별자 (최종 상태는 이 값이 일치할 때만 기록)
+     */
+    @Column(length = 36)
+    private String claimId;
+
+    /**
+     * 전송 중 임대 만료 시각 (중계기가 멈춰도 이후 다시 발송 대상이 됨)
+     */
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 마지막 실패 사유
+     */
+    private String lastError;
+
+    /**
+     * 생성 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 최종 상태 기록 시각
+     */
+    private LocalDateTime processedAt;
+}
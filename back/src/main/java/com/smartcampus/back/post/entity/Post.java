@@ -2,6 +2,7 @@ package com.smartcampus.back.post.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +14,11 @@ import java.util.List;
  * 사용자가 작성한 게시글 정보를 저장
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_public_created_at", columnList = "is_public, created_at"),
+        @Index(name = "idx_posts_writer_created_at", columnList = "writer_id, created_at")
+})
 @Getter
 @Setter
 @Builder
@@ -51,10 +56,27 @@ public class Post {
 
     /**
      * 조회수
+     * - 엔티티 갱신으로 덮어쓰지 않도록 updatable = false, 증가분은 ViewCountBuffer가 주기적으로 일괄 반영
      */
-    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
     private int viewCount = 0;
 
+    /**
+     * 좋아요 수 (비정규화 카운터)
+     * - 엔티티 갱신으로 덮어쓰지 않도록 updatable = false, 증감은 PostRepository의 원자적 UPDATE로만 수행
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
+    /**
+     * 댓글 수 (비정규화 카운터)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
     /**
      * 생성 시간
      */
@@ -79,12 +101,6 @@ public class Post {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments;
 
-    /**
-     * 좋아요 목록 (1:N)
-     */
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Like> likes;
-
     /**
      * 게시글 신고 목록 (1:N)
      */
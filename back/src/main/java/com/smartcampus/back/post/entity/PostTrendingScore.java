@@ -0,0 +1,39 @@
+package com.smartcampus.back.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글(트렌딩) 점수 스냅샷 엔티티
+ * Redis 정렬 집합(ZSET)의 점수를 주기적으로 보관하여 Redis 재시작 시 복원하는 데 사용
+ */
+@Entity
+@Table(name = "post_trending_scores")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTrendingScore {
+
+    /**
+     * 게시글 ID
+     */
+    @Id
+    private Long postId;
+
+    /**
+     * 시간 감쇠 점수의 log2 값 (Unix epoch 기준 반감기 단위로 정규화)
+     * - 실제 점수 = 2^(logScore - 현재시각/반감기)
+     */
+    @Column(nullable = false)
+    private double logScore;
+
+    /**
+     * 스냅샷 저장 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime savedAt;
+}
@@ -2,6 +2,7 @@ package com.smartcampus.back.post.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,7 +13,9 @@ import java.time.LocalDateTime;
  * 댓글에 달리는 답글 정보를 저장합니다.
  */
 @Entity
-@Table(name = "comment_replies") // ✅ 'schema' → 'name' 으로 수정
+@Table(name = "comment_replies", indexes = {
+        @Index(name = "idx_replies_comment_created_at_id", columnList = "comment_id, created_at, id")
+}) // ✅ 'schema' → 'name' 으로 수정
 @Getter
 @Setter
 @Builder
@@ -37,6 +40,13 @@ public class Reply {
     @Column(nullable = false)
     private Long writerId;
 
+    /**
+     * 좋아요 수 (비정규화 카운터, ReplyRepository의 원자적 UPDATE로만 증감)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
     /**
      * 생성 시각
      */
@@ -0,0 +1,10 @@
+package com.smartcampus.back.post.enums;
+
+/**
+ * 작성자에게 알리는 활동 유형
+ */
+public enum ActivityType {
+    POST_LIKED,
+    POST_COMMENTED,
+    COMMENT_REPLIED
+}
@@ -0,0 +1,10 @@
+package com.smartcampus.back.post.enums;
+
+/**
+ * 푸시 알림을 받는 디바이스의 플랫폼 ENUM
+ */
+public enum DevicePlatform {
+    ANDROID,
+    IOS,
+    WEB
+}
@@ -0,0 +1,35 @@
+package com.smartcampus.back.post.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 대상의 유형을 정의하는 열거형 ENUM
+ * likes 테이블에 저장되는 1바이트 코드와 좋아요 카운터가 있는 테이블 이름을 함께 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LikeTargetType {
+    POST((byte) 1, "posts"),
+    COMMENT((byte) 2, "post_comments"),
+    REPLY((byte) 3, "comment_replies");
+
+    /**
+     * likes.target_type 컬럼 값 (TINYINT) - 순서가 아닌 고정 코드이므로 상수를 추가/재배치해도 기존 행이 바뀌지 않음
+     */
+    private final byte code;
+
+    /**
+     * 대상 테이블 (like_count 카운터 보유)
+     */
+    private final String targetTable;
+
+    public static LikeTargetType fromCode(byte code) {
+        for (LikeTargetType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 좋아요 대상 코드입니다: " + code);
+    }
+}
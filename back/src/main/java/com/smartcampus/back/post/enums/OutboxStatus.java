@@ -0,0 +1,12 @@
+package com.smartcampus.back.post.enums;
+
+/**
+ * 알림 발송 대기(outbox) 항목의 상태
+ */
+public enum OutboxStatus {
+    PENDING,    // 전송 대기 (재시도 대기 포함)
+    SENDING,    // 중계기가 가져가 전송 중 (임대 시간이 지나면 다시 대기로 간주)
+    SENT,       // 하나 이상의 디바이스로 전송 성공
+    SKIPPED,    // 등록된 디바이스가 없어 전송하지 않음
+    FAILED      // 재시도할 수 없는 실패 또는 시도 횟수 초과
+}
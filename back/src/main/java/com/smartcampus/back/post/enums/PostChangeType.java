@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.enums;
+
+/**
+ * 게시글 변경 이벤트 유형
+ */
+public enum PostChangeType {
+    CREATED,
+    UPDATED,
+    ATTACHMENTS_CHANGED,
+    DELETED,
+    VIEWED,
+    LIKED,
+    UNLIKED,
+    COMMENTED,
+    UNCOMMENTED
+}
@@ -0,0 +1,34 @@
+package com.smartcampus.back.post.event;
+
+import com.smartcampus.back.post.enums.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 사용자가 게시글/댓글에 반응했음을 알리는 이벤트
+ * 활동 알림 집계기가 트랜잭션 커밋 후 수신하여 작성자에게 보낼 알림으로 모읍니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityEvent {
+
+    /**
+     * 활동 유형
+     */
+    private final ActivityType type;
+
+    /**
+     * 대상 게시글 또는 댓글 ID
+     */
+    private final Long targetId;
+
+    /**
+     * 알림을 받을 대상 작성자 ID
+     */
+    private final Long recipientId;
+
+    /**
+     * 활동한 사용자 ID
+     */
+    private final Long actorId;
+}
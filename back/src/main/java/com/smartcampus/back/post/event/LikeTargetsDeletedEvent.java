@@ -0,0 +1,27 @@
+package com.smartcampus.back.post.event;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 좋아요 대상(게시글/댓글/대댓글)이 삭제되었음을 알리는 이벤트
+ * 좋아요 상태를 DB 밖에 따로 보관하는 저장소가 트랜잭션 커밋 후 수신하여 해당 대상의 상태를 제거합니다.
+ * 삭제 후에는 대상의 하위 ID를 조회할 수 없으므로, 발행하는 쪽이 삭제 전에 ID를 모아 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LikeTargetsDeletedEvent {
+
+    /**
+     * 대상 유형
+     */
+    private final LikeTargetType type;
+
+    /**
+     * 삭제된 대상 ID 목록
+     */
+    private final Collection<Long> targetIds;
+}
@@ -0,0 +1,35 @@
+package com.smartcampus.back.post.event;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자가 게시글/댓글/대댓글의 좋아요를 토글했음을 알리는 이벤트
+ * 사용자별 좋아요 상태를 따로 보관하는 저장소가 트랜잭션 커밋 후 수신하여 갱신하고,
+ * 활동 알림 집계기가 게시글 좋아요를 작성자에게 보낼 알림으로 모읍니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LikeToggledEvent {
+
+    /**
+     * 대상 유형
+     */
+    private final LikeTargetType type;
+
+    /**
+     * 대상 ID
+     */
+    private final Long targetId;
+
+    /**
+     * 토글한 사용자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 토글 후 좋아요 여부
+     */
+    private final boolean liked;
+}
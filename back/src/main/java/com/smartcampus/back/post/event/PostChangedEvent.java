@@ -0,0 +1,24 @@
+package com.smartcampus.back.post.event;
+
+import com.smartcampus.back.post.enums.PostChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 또는 게시글에 딸린 데이터(좋아요, 댓글 등)가 변경되었음을 알리는 도메인 이벤트
+ * 서비스 계층에서 발행하고, 캐시 등 부가 저장소가 트랜잭션 커밋 후 수신하여 갱신합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    /**
+     * 변경된 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 변경 유형
+     */
+    private final PostChangeType type;
+}
@@ -0,0 +1,20 @@
+package com.smartcampus.back.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 누적된 조회수 증가분이 DB에 반영되었음을 알리는 이벤트
+ * 조회수를 따로 보관하는 캐시가 다시 읽지 않고 증가분만 더할 수 있도록 발행합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountsFlushedEvent {
+
+    /**
+     * 게시글 ID별 반영된 증가분
+     */
+    private final Map<Long, Long> deltas;
+}
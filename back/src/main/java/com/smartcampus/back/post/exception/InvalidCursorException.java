@@ -0,0 +1,23 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 페이지네이션 커서가 올바르지 않을 때 발생하는 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * 기본 생성자
+     */
+    public InvalidCursorException() {
+        super("유효하지 않은 커서입니다.");
+    }
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 좋아요 요청이 올바르지 않을 때 발생하는 예외 (예: 일괄 조회 대상이 너무 많은 경우)
+ */
+public class InvalidLikeRequestException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public InvalidLikeRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 알림 전송 요청이 올바르지 않을 때 발생하는 예외 (예: 대상 토큰과 사용자 ID가 모두 없는 경우)
+ */
+public class InvalidNotificationRequestException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public InvalidNotificationRequestException(String message) {
+        super(message);
+    }
+}
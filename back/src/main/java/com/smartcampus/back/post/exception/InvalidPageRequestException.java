@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 페이지 번호나 페이지 크기가 허용 범위를 벗어났을 때 발생하는 예외
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 게시글 검색 조건이 올바르지 않을 때 발생하는 예외 (예: 시작일이 종료일보다 늦은 경우)
+ */
+public class InvalidSearchConditionException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public InvalidSearchConditionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartcampus.back.post.exception;
+
+/**
+ * 알림 발송 대기열이 가득 차 전송을 접수할 수 없을 때 발생하는 예외
+ */
+public class NotificationQueueFullException extends RuntimeException {
+
+    /**
+     * 사용자 정의 메시지 포함 생성자
+     *
+     * @param message 사용자 정의 메시지
+     */
+    public NotificationQueueFullException(String message) {
+        super(message);
+    }
+}
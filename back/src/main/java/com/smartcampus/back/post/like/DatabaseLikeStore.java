@@ -0,0 +1,128 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.entity.LikeId;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.repository.CommentRepository;
+import com.smartcampus.back.post.repository.LikeRepository;
+import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.ReplyRepository;
+import com.smartcampus.back.post.repository.projection.LikeCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DB 좋아요 저장소 (기본)
+ *
+ * <p>대상이 있는지 잠금 없이 확인한 뒤, 좋아요 행을 먼저 삽입해 보고 이미 있으면 삭제하는 방식으로 토글하고 대상의 카운터를 증감합니다.
+ * 같은 사용자의 동시 요청은 복합 키 잠금에서 차례로 처리되므로 중복 키 오류 없이 각각 한 번씩 토글되고,
+ * 카운터는 실제로 삽입/삭제된 경우에만 증감됩니다. 토글은 자체 트랜잭션에서 실행되며, 호출하는 쪽에 트랜잭션이 있으면 그 안에 참여합니다.</p>
+ *
+ * <p>잠금 순서: 토글은 likes 행 → 카운터 행(대상 행 또는 샤드 행) 순으로만 배타 잠금을 잡습니다.
+ * 대상 존재 확인을 INSERT ... SELECT로 하면 MySQL(REPEATABLE READ)이 대상 행에 공유 잠금을 걸고,
+ * 같은 게시글에 동시에 좋아요한 두 트랜잭션이 서로의 공유 잠금 때문에 카운터 UPDATE의 배타 잠금을 얻지 못해 교착 상태가 됩니다.
+ * 그래서 존재 확인은 잠금 없는 일반 조회로 하고, 삽입은 대상 행을 읽지 않는 INSERT IGNORE ... VALUES로 합니다.</p>
+ *
+ * <p>MySQL에서는 카운터 UPDATE가 갱신된 좋아요 수를 함께 돌려주므로 좋아요는 문장 3개(존재 확인, INSERT IGNORE, UPDATE),
+ * 취소는 삽입 시도가 먼저 실패해야 하므로 4개(존재 확인, INSERT IGNORE, DELETE, UPDATE)로 끝납니다.</p>
+ *
+ * <p>게시글 좋아요 여부는 {@link LikeBitmapIndex}에서 답하고, 카운터 증감과 조회는 {@link ShardedLikeCounter}를 거칩니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.like.store", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseLikeStore implements LikeStore {
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final LikeBitmapIndex bitmapIndex;
+    private final ShardedLikeCounter likeCounter;
+
+    @Override
+    @Transactional
+    public Optional<LikeToggleResult> toggle(LikeTargetType type, Long targetId, Long userId) {
+        if (!exists(type, targetId)) {
+            return Optional.empty();
+        }
+
+        boolean liked;
+        if (likeRepository.insertIgnore(type.getCode(), targetId, userId) > 0) {
+            liked = true;
+        } else if (likeRepository.deleteLike(type, targetId, userId) > 0) {
+            liked = false;
+        } else {
+            // 같은 사용자의 다른 요청이 그 사이 좋아요를 취소함 (카운터는 그 요청이 이미 반영)
+            return Optional.of(new LikeToggleResult(false, count(type, targetId)));
+        }
+
+        long count = likeCounter.add(type, targetId, userId, liked ? 1 : -1);
+        return Optional.of(new LikeToggleResult(liked, count));
+    }
+
+    @Override
+    public boolean isLiked(LikeTargetType type, Long targetId, Long userId) {
+        if (type == LikeTargetType.POST && LikeBitmapIndex.indexable(targetId) && LikeBitmapIndex.indexable(userId)) {
+            return bitmapIndex.isLiked(targetId, userId);
+        }
+        return likeRepository.existsById(new LikeId(type, targetId, userId));
+    }
+
+    @Override
+    public long count(LikeTargetType type, Long targetId) {
+        if (likeCounter.isSharded(type, targetId)) {
+            return likeCounter.shardedCount(type, targetId);
+        }
+        Optional<Integer> count = switch (type) {
+            case POST -> postRepository.findLikeCountById(targetId);
+            case COMMENT -> commentRepository.findLikeCountById(targetId);
+            case REPLY -> replyRepository.findLikeCountById(targetId);
+        };
+        return count.orElse(0);
+    }
+
+    @Override
+    public Map<Long, Long> counts(LikeTargetType type, Collection<Long> targetIds) {
+        List<LikeCount> counts = switch (type) {
+            case POST -> postRepository.findLikeCountsByIdIn(targetIds);
+            case COMMENT -> commentRepository.findLikeCountsByIdIn(targetIds);
+            case REPLY -> replyRepository.findLikeCountsByIdIn(targetIds);
+        };
+        Map<Long, Long> result = new HashMap<>();
+        counts.forEach(count -> result.put(count.getId(), likeCounter.isSharded(type, count.getId())
+                ? likeCounter.shardedCount(type, count.getId())
+                : count.getLikeCount()));
+        return result;
+    }
+
+    @Override
+    public Set<Long> likedTargets(LikeTargetType type, Collection<Long> targetIds, Long userId) {
+        if (type == LikeTargetType.POST && LikeBitmapIndex.indexable(userId)
+                && targetIds.stream().allMatch(LikeBitmapIndex::indexable)) {
+            return bitmapIndex.likedPosts(userId, targetIds);
+        }
+        return new HashSet<>(likeRepository.findLikedTargetIds(userId, type, targetIds));
+    }
+
+    /**
+     * 대상 존재 확인 (잠금 없는 일반 조회)
+     */
+    private boolean exists(LikeTargetType type, Long targetId) {
+        return switch (type) {
+            case POST -> postRepository.existsById(targetId);
+            case COMMENT -> commentRepository.existsById(targetId);
+            case REPLY -> replyRepository.existsById(targetId);
+        };
+    }
+
+}
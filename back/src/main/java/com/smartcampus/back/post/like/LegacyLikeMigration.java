@@ -0,0 +1,116 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.counter.CounterRecount;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 이전 좋아요 테이블(post_likes)을 likes 테이블로 옮기는 작업기
+ *
+ * <p>post_likes는 (user_id, post_id, comment_id, reply_id) 네 컬럼 복합 키에 대상 컬럼 두 개가 항상 비어 있는 구조였습니다.
+ * 각 행을 채워진 대상 컬럼 하나로 분류해 (target_type, target_id, user_id) 행으로 복사합니다.
+ * 비어 있는 대상 컬럼은 NULL 또는 0으로 저장되어 있을 수 있으며, 대댓글 > 댓글 > 게시글 순으로 우선합니다.</p>
+ *
+ * <ul>
+ *     <li>사용자 ID 구간 단위로 INSERT IGNORE ... SELECT 한 문장씩 실행하므로, 잠금을 오래 쥐지 않고 중간에 멈춰도 다시 실행하면 이어서 채워짐</li>
+ *     <li>이미 likes에 있는 행은 건너뛰므로 여러 번 실행해도 결과가 같음</li>
+ *     <li>post_likes는 삭제하지 않음 (확인 후 직접 삭제)</li>
+ * </ul>
+ *
+ * <p>{@code post.like.migrate-legacy-on-startup=true}로 기동하면 모든 빈이 준비된 직후, 웹 서버가 요청을 받기 전에 한 번 실행됩니다.
+ * 이관 전에 토글을 받으면 이미 좋아요한 글을 다시 누른 요청이 새 행과 like_count + 1을 만들고 이관은 그 행을 건너뛰어
+ * 카운터가 부풀려지므로, 첫 이관은 서비스 중이 아닌 이 기동 단계에서 실행해야 합니다.
+ * 이관이 실패하면 기동을 중단하며, 다시 기동하면 이어서 채웁니다.</p>
+ *
+ * <p>이관은 대상의 like_count를 건드리지 않습니다. {@code post.counter.recount-on-startup=true}를 함께 지정하면
+ * 이관이 끝난 뒤 {@link CounterRecount}로 카운터를 likes 기준으로 다시 셉니다. (이관할 테이블이 없어도 단독으로 실행 가능)</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacyLikeMigration implements SmartInitializingSingleton {
+
+    private static final String LEGACY_TABLE = "post_likes";
+
+    private static final String TARGET_TYPE = "CASE WHEN COALESCE(reply_id, 0) <> 0 THEN " + LikeTargetType.REPLY.getCode()
+            + " WHEN COALESCE(comment_id, 0) <> 0 THEN " + LikeTargetType.COMMENT.getCode()
+            + " ELSE " + LikeTargetType.POST.getCode() + " END";
+
+    private static final String TARGET_ID = "CASE WHEN COALESCE(reply_id, 0) <> 0 THEN reply_id"
+            + " WHEN COALESCE(comment_id, 0) <> 0 THEN comment_id ELSE post_id END";
+
+    private static final String COPY_SQL = "INSERT IGNORE INTO likes (target_type, target_id, user_id, created_at) "
+            + "SELECT " + TARGET_TYPE + ", " + TARGET_ID + ", user_id, COALESCE(created_at, NOW()) "
+            + "FROM " + LEGACY_TABLE + " "
+            + "WHERE user_id >= ? AND user_id < ? "
+            + "AND (COALESCE(reply_id, 0) <> 0 OR COALESCE(comment_id, 0) <> 0 OR COALESCE(post_id, 0) <> 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CounterRecount counterRecount;
+
+    /**
+     * 한 문장으로 옮길 사용자 ID 구간의 크기
+     */
+    @Value("${post.like.migration.user-batch-size:1000}")
+    private long userBatchSize;
+
+    /**
+     * 기동 시 이전 좋아요 테이블을 옮길지 여부
+     */
+    @Value("${post.like.migrate-legacy-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    /**
+     * 기동 시 비정규화 카운터를 다시 셀지 여부 (이관 후 실행)
+     */
+    @Value("${post.counter.recount-on-startup:false}")
+    private boolean recountOnStartup;
+
+    /**
+     * 기동 시 설정에 따라 이전 좋아요를 옮기고 카운터를 다시 셉니다. (요청을 받기 전)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (migrateOnStartup) {
+            migrate();
+        }
+        if (recountOnStartup) {
+            counterRecount.recountAll();
+        }
+    }
+
+    /**
+     * post_likes의 모든 행을 likes로 옮깁니다.
+     *
+     * @return 새로 삽입된 행 수 (이전 테이블이 없으면 0)
+     */
+    public long migrate() {
+        Map<String, Object> range;
+        try {
+            range = jdbcTemplate.queryForMap("SELECT MIN(user_id) AS min_id, MAX(user_id) AS max_id FROM " + LEGACY_TABLE);
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 이전 좋아요 테이블(" + LEGACY_TABLE + ")을 읽을 수 없어 이관을 건너뜁니다: " + e.getMessage());
+            return 0;
+        }
+        if (range.get("min_id") == null) {
+            System.out.println("✅ 이전 좋아요 테이블이 비어 있어 이관할 행이 없습니다.");
+            return 0;
+        }
+
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        long migrated = 0;
+        for (long from = minId; from <= maxId; from += userBatchSize) {
+            long to = Math.min(from + userBatchSize, maxId + 1);
+            migrated += jdbcTemplate.update(COPY_SQL, from, to);
+        }
+        System.out.println("✅ 이전 좋아요 이관 완료 (" + migrated + "건 삽입, 사용자 ID " + minId + "~" + maxId + ")");
+        return migrated;
+    }
+}
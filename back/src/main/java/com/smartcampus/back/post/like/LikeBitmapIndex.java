@@ -0,0 +1,232 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.enums.PostChangeType;
+import com.smartcampus.back.post.event.LikeToggledEvent;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.repository.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게시글 좋아요 비트맵 색인 (애플리케이션 메모리, LRU)
+ *
+ * <p>"이 사용자가 이 게시글을 좋아요 했는가"를 DB 없이 답하기 위해 두 방향의 Roaring 비트맵을 보관합니다.</p>
+ * <ul>
+ *     <li>사용자 → 좋아요한 게시글 ID - 목록 한 페이지의 좋아요 여부를 비트맵 교집합 한 번으로 계산</li>
+ *     <li>게시글 → 좋아요한 사용자 ID - 많은 사용자가 보는 게시글의 단건 좋아요 여부 확인</li>
+ * </ul>
+ *
+ * <p>비트맵은 처음 필요할 때 {@link LikeRepository}에서 적재하고, 이후에는 {@link LikeToggledEvent}를 커밋 후 받아 갱신합니다.
+ * 적재하는 동안 같은 사용자/게시글의 토글이 있었다면 읽은 값이 오래되었을 수 있으므로 보관하지 않습니다.
+ * 방향마다 최대 보관 수를 넘으면 가장 오래 쓰이지 않은 비트맵부터 제거합니다.</p>
+ *
+ * <p>토글 이벤트는 같은 인스턴스 안에서만 전달되므로, 여러 인스턴스로 운영하면 다른 인스턴스의 토글은 보관 중인 비트맵에
+ * 반영되지 않습니다. 그래서 비트맵은 적재 후 {@code ttl-ms}가 지나면 버리고 다시 적재하며,
+ * 다른 인스턴스에서 누른 좋아요가 이 인스턴스의 좋아요 여부에 보이기까지 늦어도 그만큼 걸립니다.</p>
+ *
+ * <p>Roaring 비트맵은 32비트 부호 없는 정수를 담으므로, 이 범위를 넘는 ID는 {@link #indexable(Long)}로 걸러 DB에서 조회합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.like.store", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeBitmapIndex {
+
+    private static final long MAX_ID = 0xFFFF_FFFFL;
+
+    private final LikeRepository likeRepository;
+
+    /**
+     * 최대 보관 사용자 수
+     */
+    @Value("${post.like.bitmap-index.max-users:20000}")
+    private int maxUsers;
+
+    /**
+     * 최대 보관 게시글 수
+     */
+    @Value("${post.like.bitmap-index.max-posts:2000}")
+    private int maxPosts;
+
+    /**
+     * 비트맵 보관 시간 (다른 인스턴스의 토글이 보이기까지의 최대 지연)
+     */
+    @Value("${post.like.bitmap-index.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final Map<Long, Entry> postsByUser = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    private final Map<Long, Entry> usersByPost = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxPosts;
+        }
+    };
+
+    /**
+     * 적재 중인 사용자/게시글 (값이 true이면 적재 도중 변경이 있었으므로 결과를 보관하지 않음)
+     */
+    private final Map<Long, Boolean> loadingUsers = new HashMap<>();
+    private final Map<Long, Boolean> loadingPosts = new HashMap<>();
+
+    /**
+     * 비트맵에 담을 수 있는 ID인지 확인
+     */
+    public static boolean indexable(Long id) {
+        return id != null && id >= 0 && id <= MAX_ID;
+    }
+
+    /**
+     * 사용자의 게시글 좋아요 여부
+     * 사용자 비트맵이 있으면 그것을, 없으면 게시글의 좋아요 사용자 비트맵을 사용합니다.
+     *
+     * @param postId 게시글 ID ({@link #indexable(Long)})
+     * @param userId 사용자 ID ({@link #indexable(Long)})
+     */
+    public boolean isLiked(Long postId, Long userId) {
+        synchronized (this) {
+            RoaringBitmap posts = cached(postsByUser, userId);
+            if (posts != null) {
+                return posts.contains(postId.intValue());
+            }
+        }
+        RoaringBitmap users = load(postId, usersByPost, loadingPosts,
+                id -> likeRepository.findUserIdsByTarget(LikeTargetType.POST, id));
+        synchronized (this) {
+            return users.contains(userId.intValue());
+        }
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 ID (사용자 비트맵과 교집합)
+     *
+     * @param userId 사용자 ID ({@link #indexable(Long)})
+     * @param postIds 게시글 ID 목록 (모두 {@link #indexable(Long)})
+     */
+    public Set<Long> likedPosts(Long userId, Collection<Long> postIds) {
+        RoaringBitmap requested = new RoaringBitmap();
+        postIds.forEach(postId -> requested.add(postId.intValue()));
+
+        RoaringBitmap posts = load(userId, postsByUser, loadingUsers,
+                id -> likeRepository.findTargetIdsByUserId(id, LikeTargetType.POST));
+        RoaringBitmap liked;
+        synchronized (this) {
+            liked = RoaringBitmap.and(posts, requested);
+        }
+
+        Set<Long> result = new HashSet<>();
+        liked.forEach((int postId) -> result.add(Integer.toUnsignedLong(postId)));
+        return result;
+    }
+
+    /**
+     * 좋아요 토글을 보관 중인 비트맵에 반영합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLikeToggled(LikeToggledEvent event) {
+        if (event.getType() != LikeTargetType.POST
+                || !indexable(event.getTargetId()) || !indexable(event.getUserId())) {
+            return;
+        }
+        Long postId = event.getTargetId();
+        Long userId = event.getUserId();
+        loadingUsers.replace(userId, true);
+        loadingPosts.replace(postId, true);
+
+        RoaringBitmap posts = cached(postsByUser, userId);
+        RoaringBitmap users = cached(usersByPost, postId);
+        if (event.isLiked()) {
+            if (posts != null) posts.add(postId.intValue());
+            if (users != null) users.add(userId.intValue());
+        } else {
+            if (posts != null) posts.remove(postId.intValue());
+            if (users != null) users.remove(userId.intValue());
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangeType.DELETED || !indexable(event.getPostId())) {
+            return;
+        }
+        int postId = event.getPostId().intValue();
+        usersByPost.remove(event.getPostId());
+        loadingPosts.replace(event.getPostId(), true);
+        postsByUser.values().forEach(posts -> posts.bitmap().remove(postId));
+        loadingUsers.replaceAll((userId, stale) -> true);
+    }
+
+    /**
+     * 보관 중인 비트맵을 반환하거나, 없으면 DB에서 적재합니다.
+     * DB 조회는 잠금 밖에서 수행하고, 그동안 변경이 없었을 때만 보관합니다.
+     */
+    private RoaringBitmap load(Long key, Map<Long, Entry> cache, Map<Long, Boolean> loading,
+                               Function<Long, List<Long>> loader) {
+        synchronized (this) {
+            RoaringBitmap cached = cached(cache, key);
+            if (cached != null) {
+                return cached;
+            }
+            loading.putIfAbsent(key, false);
+        }
+
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long id : loader.apply(key)) {
+            if (indexable(id)) {
+                bitmap.add(id.intValue());
+            }
+        }
+        bitmap.runOptimize();
+
+        synchronized (this) {
+            // 동시에 적재한 다른 요청이 먼저 끝났거나 적재 중 변경이 있었으면 보관하지 않음
+            if (Boolean.FALSE.equals(loading.remove(key))) {
+                cache.put(key, new Entry(bitmap, System.nanoTime()));
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 보관 중인 비트맵 (없거나 보관 시간이 지났으면 null, 지난 것은 제거)
+     */
+    private RoaringBitmap cached(Map<Long, Entry> cache, Long key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.cachedAt() >= TimeUnit.MILLISECONDS.toNanos(ttlMs)) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.bitmap();
+    }
+
+    /**
+     * 보관 항목 (비트맵, 적재한 시각)
+     */
+    private record Entry(RoaringBitmap bitmap, long cachedAt) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 좋아요 상태 저장소
+ *
+ * <p>{@code post.like.store} 설정으로 구현을 고릅니다.</p>
+ * <ul>
+ *     <li>database (기본) - 요청마다 likes 테이블과 대상의 like_count를 직접 갱신 ({@link DatabaseLikeStore})</li>
+ *     <li>redis - Redis가 좋아요 상태를 보유하고 DB에는 배치로 나중에 반영 ({@link RedisLikeStore})</li>
+ * </ul>
+ */
+public interface LikeStore {
+
+    /**
+     * 좋아요를 토글합니다.
+     *
+     * @param type 대상 유형
+     * @param targetId 대상 ID
+     * @param userId 사용자 ID
+     * @return 토글 결과 (대상이 존재하지 않으면 empty)
+     */
+    Optional<LikeToggleResult> toggle(LikeTargetType type, Long targetId, Long userId);
+
+    /**
+     * 사용자의 좋아요 여부
+     */
+    boolean isLiked(LikeTargetType type, Long targetId, Long userId);
+
+    /**
+     * 대상의 좋아요 수
+     */
+    long count(LikeTargetType type, Long targetId);
+
+    /**
+     * 여러 대상의 좋아요 수 (존재하지 않는 대상은 결과에서 제외)
+     */
+    Map<Long, Long> counts(LikeTargetType type, Collection<Long> targetIds);
+
+    /**
+     * 여러 대상 중 사용자가 좋아요한 대상 ID
+     */
+    Set<Long> likedTargets(LikeTargetType type, Collection<Long> targetIds, Long userId);
+}
@@ -0,0 +1,10 @@
+package com.smartcampus.back.post.like;
+
+/**
+ * 좋아요 토글 결과
+ *
+ * @param liked 토글 후 좋아요 여부
+ * @param count 토글 후 대상의 좋아요 수
+ */
+public record LikeToggleResult(boolean liked, long count) {
+}
@@ -0,0 +1,200 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 좋아요 상태를 DB에 배치로 반영하는 쓰기 지연(write-behind) 작업기 ({@code post.like.store=redis})
+ *
+ * <p>주기마다 변경 표시 집합({@code like:dirty})을 처리 중 키로 이름을 바꿔 떼어낸 뒤, 배치 단위로 읽어 반영합니다.
+ * 토글 순서를 재생하지 않고 반영 시점의 Redis 상태(좋아요 여부, 좋아요 수)를 그대로 쓰므로
+ * 같은 배치를 여러 번 반영해도 결과가 같습니다.</p>
+ *
+ * <ul>
+ *     <li>좋아요 상태이면 INSERT IGNORE, 아니면 DELETE</li>
+ *     <li>대상의 like_count는 증감이 아닌 Redis의 값으로 덮어씀</li>
+ *     <li>반영이 끝난 항목만 처리 중 집합에서 제거하므로, 도중에 실패하거나 종료되어도 다음 주기(재기동 후 포함)에 이어서 처리</li>
+ * </ul>
+ *
+ * <p>DB를 백업에서 복구한 경우처럼 DB가 Redis보다 뒤처졌을 때는
+ * {@code post.like.write-behind.rebuild-on-startup=true}로 기동하여 Redis에 적재된 모든 대상을 DB에 다시 씁니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.like.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class LikeWriteBehindWorker {
+
+    private static final String FLUSHING_KEY = RedisLikeStore.DIRTY_KEY + ":flushing";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 번에 반영할 최대 변경 수
+     */
+    @Value("${post.like.write-behind.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 기동 시 Redis 상태로 DB 좋아요를 다시 쓸지 여부
+     */
+    @Value("${post.like.write-behind.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * 쌓인 변경을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.like.write-behind.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(RedisLikeStore.DIRTY_KEY))
+                        || !Boolean.TRUE.equals(redisTemplate.renameIfAbsent(RedisLikeStore.DIRTY_KEY, FLUSHING_KEY))) {
+                    return;
+                }
+            }
+
+            Set<String> batch;
+            while (!(batch = redisTemplate.opsForSet().distinctRandomMembers(FLUSHING_KEY, batchSize)).isEmpty()) {
+                apply(batch);
+                redisTemplate.opsForSet().remove(FLUSHING_KEY, batch.toArray());
+            }
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 좋아요 DB 반영 실패 (다음 주기에 재시도): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 표시들의 현재 Redis 상태를 읽어 DB에 반영합니다.
+     */
+    private void apply(Set<String> batch) {
+        List<DirtyLike> changes = batch.stream().map(DirtyLike::parse).toList();
+        Map<String, DirtyLike> targets = new LinkedHashMap<>();
+        changes.forEach(change -> targets.putIfAbsent(change.type() + ":" + change.targetId(), change));
+
+        List<Object> state = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (DirtyLike change : changes) {
+                conn.sIsMember(RedisLikeStore.membersKey(change.type(), change.targetId()), change.userId().toString());
+            }
+            for (DirtyLike target : targets.values()) {
+                conn.hGet(RedisLikeStore.countKey(target.type()), target.targetId().toString());
+            }
+            return null;
+        });
+
+        Map<LikeTargetType, List<Object[]>> inserts = new EnumMap<>(LikeTargetType.class);
+        Map<LikeTargetType, List<Object[]>> deletes = new EnumMap<>(LikeTargetType.class);
+        Map<LikeTargetType, List<Object[]>> counts = new EnumMap<>(LikeTargetType.class);
+        for (int i = 0; i < changes.size(); i++) {
+            DirtyLike change = changes.get(i);
+            Object[] row = {change.userId(), change.targetId()};
+            if (Boolean.TRUE.equals(state.get(i))) {
+                inserts.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(row);
+            } else {
+                deletes.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(row);
+            }
+        }
+        int index = changes.size();
+        for (DirtyLike target : targets.values()) {
+            Object count = state.get(index++);
+            if (count != null) {
+                counts.computeIfAbsent(target.type(), type -> new ArrayList<>())
+                        .add(new Object[]{Long.parseLong(count.toString()), target.targetId()});
+            }
+        }
+
+        inserts.forEach((type, rows) -> jdbcTemplate.batchUpdate(insertSql(type), rows));
+        deletes.forEach((type, rows) -> jdbcTemplate.batchUpdate(deleteSql(type), rows));
+        counts.forEach((type, rows) -> jdbcTemplate.batchUpdate(countSql(type), rows));
+    }
+
+    /**
+     * 기동 시 설정에 따라 Redis에 적재된 모든 대상의 좋아요를 DB에 다시 씁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildDatabase();
+        }
+    }
+
+    /**
+     * Redis에 적재된 대상마다 DB의 좋아요 행과 카운터를 Redis 상태로 교체합니다.
+     * 대상 하나씩 트랜잭션으로 처리하므로, 진행 중에도 다른 대상의 조회는 일관된 값을 봅니다.
+     */
+    public void rebuildDatabase() {
+        int rebuilt = 0;
+        for (LikeTargetType type : LikeTargetType.values()) {
+            ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+            try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(RedisLikeStore.countKey(type), options)) {
+                while (cursor.hasNext()) {
+                    Map.Entry<Object, Object> entry = cursor.next();
+                    Long targetId = Long.valueOf(entry.getKey().toString());
+                    long count = Long.parseLong(entry.getValue().toString());
+                    Set<String> users = redisTemplate.opsForSet().members(RedisLikeStore.membersKey(type, targetId));
+
+                    List<Object[]> rows = new ArrayList<>();
+                    if (users != null) {
+                        users.forEach(userId -> rows.add(new Object[]{Long.valueOf(userId), targetId}));
+                    }
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.update("DELETE FROM likes WHERE target_type = ? AND target_id = ?", type.getCode(), targetId);
+                        jdbcTemplate.batchUpdate(insertSql(type), rows);
+                        jdbcTemplate.update(countSql(type), count, targetId);
+                    });
+                    rebuilt++;
+                }
+            }
+        }
+        System.out.println("✅ Redis 좋아요 상태로 DB 재구성 완료 (" + rebuilt + "개 대상)");
+    }
+
+    private static String insertSql(LikeTargetType type) {
+        return "INSERT IGNORE INTO likes (target_type, target_id, user_id, created_at) " +
+                "SELECT " + type.getCode() + ", t.id, ?, NOW() FROM " + type.getTargetTable() + " t WHERE t.id = ?";
+    }
+
+    private static String deleteSql(LikeTargetType type) {
+        return "DELETE FROM likes WHERE target_type = " + type.getCode() + " AND user_id = ? AND target_id = ?";
+    }
+
+    private static String countSql(LikeTargetType type) {
+        return "UPDATE " + type.getTargetTable() + " SET like_count = ? WHERE id = ?";
+    }
+
+    /**
+     * 변경 표시 "{type}:{targetId}:{userId}"
+     */
+    private record DirtyLike(LikeTargetType type, Long targetId, Long userId) {
+
+        static DirtyLike parse(String value) {
+            String[] parts = value.split(":");
+            return new DirtyLike(LikeTargetType.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+        }
+    }
+}
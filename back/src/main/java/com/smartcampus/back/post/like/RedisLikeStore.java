@@ -0,0 +1,270 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.event.LikeTargetsDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 좋아요 저장소 ({@code post.like.store=redis})
+ *
+ * <p>좋아요 상태의 원본을 Redis에 두고, 토글과 조회는 DB를 거치지 않고 Redis에서 끝냅니다.
+ * 토글은 Lua 스크립트 하나로 멤버십, 카운트, 변경 표시를 함께 바꾸므로 동시 요청에도 원자적입니다.
+ * 변경된 (대상, 사용자)는 {@link #DIRTY_KEY}에 모였다가 {@link LikeWriteBehindWorker}가 배치로 DB에 반영합니다.</p>
+ *
+ * <p>키 구조</p>
+ * <ul>
+ *     <li>like:{type}:{targetId} - 좋아요한 사용자 ID 집합</li>
+ *     <li>like:count:{type} - 대상 ID → 좋아요 수 해시 (필드가 있으면 해당 대상이 Redis에 적재된 상태)</li>
+ *     <li>like:dirty - DB 반영을 기다리는 "{type}:{targetId}:{userId}" 집합</li>
+ * </ul>
+ *
+ * <p>Redis에 없는 대상은 처음 접근할 때 DB에서 한 번 적재합니다.
+ * 일괄 조회에서는 없는 대상을 모아 대상 테이블과 likes 테이블을 IN 목록 쿼리 한 번씩으로 함께 읽습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.like.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisLikeStore implements LikeStore {
+
+    static final String DIRTY_KEY = "like:dirty";
+    private static final String KEY_PREFIX = "like:";
+    private static final String COUNT_KEY_PREFIX = "like:count:";
+
+    /**
+     * KEYS[1]=사용자 집합, KEYS[2]=카운트 해시, KEYS[3]=변경 표시 집합
+     * ARGV[1]=대상 ID, ARGV[2]=사용자 ID, ARGV[3]=변경 표시 값
+     * 반환: {좋아요 여부(1/0), 좋아요 수}, 대상이 적재되지 않았으면 {-1, 0}
+     */
+    private static final RedisScript<List<Long>> TOGGLE_SCRIPT = listScript("""
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 0 then
+                return {-1, 0}
+            end
+            local liked = 1
+            if redis.call('SREM', KEYS[1], ARGV[2]) == 1 then
+                liked = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[2])
+            end
+            local count = redis.call('HINCRBY', KEYS[2], ARGV[1], liked == 1 and 1 or -1)
+            redis.call('SADD', KEYS[3], ARGV[3])
+            return {liked, count}
+            """);
+
+    /**
+     * KEYS[1]=사용자 집합, KEYS[2]=카운트 해시, ARGV[1]=대상 ID, ARGV[2]=사용자 ID
+     * 반환: 1/0, 대상이 적재되지 않았으면 -1
+     */
+    private static final RedisScript<Long> IS_LIKED_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 0 then
+                return -1
+            end
+            return redis.call('SISMEMBER', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    /**
+     * KEYS[1]=사용자 집합, KEYS[2]=카운트 해시, ARGV[1]=대상 ID, ARGV[2..]=DB의 좋아요 사용자 ID
+     * 이미 적재된 대상이면 그대로 두어, 동시에 적재하는 요청이 앞선 토글을 덮어쓰지 않도록 합니다.
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], redis.call('SCARD', KEYS[1]))
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<LikeToggleResult> toggle(LikeTargetType type, Long targetId, Long userId) {
+        List<String> keys = List.of(membersKey(type, targetId), countKey(type), DIRTY_KEY);
+        String dirty = type.name() + ":" + targetId + ":" + userId;
+
+        List<Long> result = redisTemplate.execute(TOGGLE_SCRIPT, keys, targetId.toString(), userId.toString(), dirty);
+        if (result.get(0) < 0) {
+            if (!load(type, targetId)) {
+                return Optional.empty();
+            }
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keys, targetId.toString(), userId.toString(), dirty);
+        }
+        return Optional.of(new LikeToggleResult(result.get(0) == 1, result.get(1)));
+    }
+
+    @Override
+    public boolean isLiked(LikeTargetType type, Long targetId, Long userId) {
+        List<String> keys = List.of(membersKey(type, targetId), countKey(type));
+        Long liked = redisTemplate.execute(IS_LIKED_SCRIPT, keys, targetId.toString(), userId.toString());
+        if (liked != null && liked < 0) {
+            if (!load(type, targetId)) {
+                return false;
+            }
+            liked = redisTemplate.execute(IS_LIKED_SCRIPT, keys, targetId.toString(), userId.toString());
+        }
+        return liked != null && liked == 1;
+    }
+
+    @Override
+    public long count(LikeTargetType type, Long targetId) {
+        Object count = redisTemplate.opsForHash().get(countKey(type), targetId.toString());
+        if (count == null) {
+            if (!load(type, targetId)) {
+                return 0;
+            }
+            count = redisTemplate.opsForHash().get(countKey(type), targetId.toString());
+        }
+        return count == null ? 0 : Long.parseLong(count.toString());
+    }
+
+    @Override
+    public Map<Long, Long> counts(LikeTargetType type, Collection<Long> targetIds) {
+        List<Long> ids = List.copyOf(targetIds);
+        Map<Long, Long> result = readCounts(type, ids);
+
+        List<Long> missing = ids.stream().filter(id -> !result.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty() && !load(type, missing).isEmpty()) {
+            result.putAll(readCounts(type, missing));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Long> likedTargets(LikeTargetType type, Collection<Long> targetIds, Long userId) {
+        // 적재되지 않은 대상을 먼저 채운 뒤 멤버십을 파이프라인으로 한 번에 확인
+        List<Long> ids = List.copyOf(counts(type, targetIds).keySet());
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            ids.forEach(id -> conn.sIsMember(membersKey(type, id), userId.toString()));
+            return null;
+        });
+
+        Set<Long> liked = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(members.get(i))) {
+                liked.add(ids.get(i));
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 게시글/댓글/대댓글이 삭제되면 Redis의 좋아요 상태도 제거합니다. (트랜잭션 커밋 이후)
+     * 카운트 필드가 없어지므로 이후 토글은 DB에서 다시 적재하려다 대상이 없어 실패합니다.
+     * 아직 반영되지 않은 변경 표시는 대상 행이 없으므로 DB에 아무 영향을 주지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeTargetsDeleted(LikeTargetsDeletedEvent event) {
+        if (event.getTargetIds().isEmpty()) {
+            return;
+        }
+        LikeTargetType type = event.getType();
+        try {
+            redisTemplate.opsForHash().delete(countKey(type), event.getTargetIds().stream().map(id -> (Object) id.toString()).toArray());
+            redisTemplate.delete(event.getTargetIds().stream().map(id -> membersKey(type, id)).toList());
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 좋아요 상태 제거 실패 (" + type + " " + event.getTargetIds() + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Redis에 적재된 대상의 좋아요 수를 한 번에 읽습니다. (적재되지 않은 대상은 결과에서 제외)
+     */
+    private Map<Long, Long> readCounts(LikeTargetType type, List<Long> ids) {
+        List<Object> fields = ids.stream().map(id -> (Object) id.toString()).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(countKey(type), fields);
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Redis에 없는 대상의 좋아요 사용자를 DB에서 읽어 적재합니다.
+     *
+     * @return 대상이 DB에 존재하면 true
+     */
+    private boolean load(LikeTargetType type, Long targetId) {
+        return !load(type, List.of(targetId)).isEmpty();
+    }
+
+    /**
+     * Redis에 없는 여러 대상의 좋아요 사용자를 대상 테이블과 likes 테이블의 IN 목록 쿼리 한 번씩으로 읽어 적재합니다.
+     *
+     * @return DB에 존재하여 적재된 대상 ID
+     */
+    private Set<Long> load(LikeTargetType type, List<Long> targetIds) {
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM " + type.getTargetTable() + " WHERE id IN (" + placeholders(targetIds.size()) + ")",
+                Long.class, targetIds.toArray());
+        if (existing.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> params = new ArrayList<>(existing.size() + 1);
+        params.add(type.getCode());
+        params.addAll(existing);
+        Map<Long, List<String>> users = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT target_id, user_id FROM likes WHERE target_type = ? AND target_id IN (" + placeholders(existing.size()) + ")",
+                (RowCallbackHandler) rs -> users.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(Long.toString(rs.getLong(2))),
+                params.toArray());
+
+        for (Long targetId : existing) {
+            List<String> args = new ArrayList<>();
+            args.add(targetId.toString());
+            args.addAll(users.getOrDefault(targetId, List.of()));
+            redisTemplate.execute(LOAD_SCRIPT, List.of(membersKey(type, targetId), countKey(type)), args.toArray());
+        }
+        return new HashSet<>(existing);
+    }
+
+    /**
+     * 정수 배열을 반환하는 Lua 스크립트 (Redis는 정수 배열을 Long 목록으로 돌려줌)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> listScript(String script) {
+        return (RedisScript<List<Long>>) (RedisScript) RedisScript.of(script, List.class);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    static String membersKey(LikeTargetType type, Long targetId) {
+        return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT) + ":" + targetId;
+    }
+
+    static String countKey(LikeTargetType type) {
+        return COUNT_KEY_PREFIX + type.name().toLowerCase(Locale.ROOT);
+    }
+}
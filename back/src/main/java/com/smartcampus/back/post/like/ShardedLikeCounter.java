@@ -0,0 +1,302 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 카운터 (쓰기가 몰리는 대상은 분할 카운터로 자동 전환)
+ *
+ * <p>평소에는 대상 행의 like_count를 제자리에서 증감합니다. 한 게시글에 좋아요가 몰리면 그 행의 잠금에서 쓰기가 줄을 서므로,
+ * 주기마다 대상별 쓰기 속도를 재어 임계치를 넘은 대상은 like_counter_shards의 N개 행으로 나눠 씁니다.
+ * 사용자 ID 해시로 샤드를 고르므로 같은 사용자의 좋아요/취소는 항상 같은 행에 모입니다.</p>
+ *
+ * <ul>
+ *     <li>좋아요 수 = 대상의 like_count + 샤드 합계 (합계는 짧게 캐시)</li>
+ *     <li>주기마다 샤드 합계를 대상의 like_count로 옮겨, like_count만 읽는 목록 조회도 곧 따라잡음
+ *         (아래 지연 참고)</li>
+ *     <li>쓰기 속도가 내려가면 합계를 옮긴 뒤 샤드 행을 지워 일반 모드로 되돌림</li>
+ * </ul>
+ *
+ * <p>좋아요 API, 일괄 상태 조회, 게시글 화면 묶음은 {@link LikeStore}를 거쳐 합계를 읽으므로 항상 정확합니다.
+ * 반면 like_count 컬럼을 직접 읽는 조회(목록 요약, 피드, 댓글/대댓글 목록)는 분할 모드인 동안
+ * 마지막 합계 이동 이후의 증감분, 즉 최대 {@code check-interval-ms}(기본 10초) 동안의 증감분이 빠진 값을 봅니다.
+ * 피드 캐시는 좋아요마다 해당 페이지를 비우지만, 합계 이동 전에 다시 채워진 페이지는
+ * 다음 좋아요나 {@code post.feed-cache.ttl-seconds}(기본 300초)까지 그 값을 유지합니다.</p>
+ *
+ * <p>샤드 행의 target_type은 likes 테이블과 같은 1바이트 코드({@link LikeTargetType#getCode()})로 저장합니다.</p>
+ *
+ * <p>잠금 순서는 항상 대상 행 → 샤드 행입니다. 토글은 likes 행 다음에 카운터 행 하나(대상 행 또는 샤드 행)만 잠그고,
+ * 합계 이동은 대상 행을 먼저 잠근 뒤 샤드 행을 잠그므로 두 작업이 서로 반대 순서로 기다리는 일이 없습니다.</p>
+ *
+ * <p>분할 여부를 모르는 다른 노드가 대상 행을 직접 증감해도 합계 공식이 그대로 성립하고,
+ * 샤드 행이 지워진 뒤 도착한 증감은 대상 행에 반영되므로 어느 경우에도 증감분을 잃지 않습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.like.store", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ShardedLikeCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 분할 모드 대상의 샤드 수
+     */
+    @Value("${post.like.shard.count:16}")
+    private int shardCount;
+
+    /**
+     * 분할 모드로 전환하는 분당 쓰기 수
+     */
+    @Value("${post.like.shard.promote-per-minute:1000}")
+    private long promotePerMinute;
+
+    /**
+     * 일반 모드로 되돌리는 분당 쓰기 수
+     */
+    @Value("${post.like.shard.demote-per-minute:100}")
+    private long demotePerMinute;
+
+    /**
+     * 쓰기 속도 측정 및 샤드 합계 이동 주기
+     */
+    @Value("${post.like.shard.check-interval-ms:10000}")
+    private long checkIntervalMs;
+
+    /**
+     * 분할 모드 대상의 합계 캐시 유지 시간
+     */
+    @Value("${post.like.shard.read-cache-ms:1000}")
+    private long readCacheMs;
+
+    private final Map<Target, LongAdder> writes = new ConcurrentHashMap<>();
+    private final Set<Target> sharded = ConcurrentHashMap.newKeySet();
+    private final Map<Target, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    /**
+     * DB가 MySQL이면 카운터 UPDATE에서 LAST_INSERT_ID(식)으로 갱신된 값을 함께 돌려받음 (처음 사용할 때 확인)
+     */
+    private volatile Boolean returnsUpdatedCount;
+
+    /**
+     * 대상의 좋아요 수를 증감하고 증감 후의 좋아요 수를 반환합니다. (호출하는 쪽의 트랜잭션 안에서 실행)
+     * 일반 모드 대상은 MySQL에서 UPDATE 한 번으로 증감과 결과 조회를 함께 처리합니다.
+     *
+     * @param type 대상 유형
+     * @param targetId 대상 ID
+     * @param userId 토글한 사용자 ID (샤드 선택에 사용)
+     * @param delta 증감분
+     * @return 증감 후 좋아요 수
+     */
+    public long add(LikeTargetType type, Long targetId, Long userId, int delta) {
+        Target target = new Target(type, targetId);
+        writes.computeIfAbsent(target, key -> new LongAdder()).increment();
+
+        if (sharded.contains(target)) {
+            int updated = jdbcTemplate.update(
+                    "UPDATE like_counter_shards SET like_count = like_count + ? " +
+                            "WHERE target_type = ? AND target_id = ? AND shard = ?",
+                    delta, type.getCode(), targetId, shardOf(userId));
+            if (updated > 0) {
+                cachedCounts.computeIfPresent(target, (key, cached) -> cached.plus(delta));
+                return shardedCount(type, targetId);
+            }
+            // 다른 노드가 일반 모드로 되돌린 대상
+            sharded.remove(target);
+            cachedCounts.remove(target);
+        }
+        return addToTarget(type, targetId, delta);
+    }
+
+    /**
+     * 분할 모드 대상인지 확인
+     */
+    public boolean isSharded(LikeTargetType type, Long targetId) {
+        return sharded.contains(new Target(type, targetId));
+    }
+
+    /**
+     * 분할 모드 대상의 좋아요 수 (대상의 like_count + 샤드 합계, 짧게 캐시)
+     *
+     * @return 좋아요 수 (대상이 없으면 0)
+     */
+    public long shardedCount(LikeTargetType type, Long targetId) {
+        Target target = new Target(type, targetId);
+        long now = System.currentTimeMillis();
+        CachedCount cached = cachedCounts.get(target);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+        List<Long> sum = jdbcTemplate.queryForList(
+                "SELECT t.like_count + COALESCE((SELECT SUM(s.like_count) FROM like_counter_shards s " +
+                        "WHERE s.target_type = ? AND s.target_id = t.id), 0) " +
+                        "FROM " + type.getTargetTable() + " t WHERE t.id = ?",
+                Long.class, type.getCode(), targetId);
+        long count = sum.isEmpty() ? 0 : sum.get(0);
+        cachedCounts.put(target, new CachedCount(count, now + readCacheMs));
+        return count;
+    }
+
+    /**
+     * 기동 시 이전에 분할 모드였던 대상을 불러옵니다. (합계 이동과 되돌리기를 이어서 수행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadShardedTargets() {
+        try {
+            jdbcTemplate.query("SELECT DISTINCT target_type, target_id FROM like_counter_shards", rs -> {
+                sharded.add(new Target(LikeTargetType.fromCode(rs.getByte(1)), rs.getLong(2)));
+            });
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 분할 카운터 대상 조회 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 주기마다 쓰기 속도에 따라 분할 모드를 전환하고, 분할 모드 대상의 샤드 합계를 대상 카운터로 옮깁니다.
+     */
+    @Scheduled(fixedDelayString = "${post.like.shard.check-interval-ms:10000}")
+    public synchronized void rebalance() {
+        Map<Target, Long> perMinute = new HashMap<>();
+        writes.forEach((target, adder) -> perMinute.put(target, adder.sumThenReset() * 60_000 / checkIntervalMs));
+        writes.entrySet().removeIf(entry -> perMinute.getOrDefault(entry.getKey(), 0L) == 0 && !sharded.contains(entry.getKey()));
+
+        List<Target> targets = new ArrayList<>(sharded);
+        perMinute.forEach((target, rate) -> {
+            if (rate >= promotePerMinute && !sharded.contains(target)) {
+                promote(target, rate);
+            }
+        });
+        for (Target target : targets) {
+            boolean demote = perMinute.getOrDefault(target, 0L) < demotePerMinute;
+            try {
+                fold(target, demote);
+            } catch (DataAccessException e) {
+                System.err.println("⚠️ 분할 카운터 합계 이동 실패 (" + target + "): " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 분할 모드로 전환합니다. 샤드 행은 0에서 시작하므로 대상의 like_count는 그대로 둡니다.
+     */
+    private void promote(Target target, long rate) {
+        List<Object[]> rows = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            rows.add(new Object[]{target.type().getCode(), target.targetId(), shard});
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO like_counter_shards (target_type, target_id, shard, like_count) VALUES (?, ?, ?, 0)",
+                    rows);
+            sharded.add(target);
+            System.out.println("✅ 좋아요 분할 카운터 전환 (" + target + ", 분당 " + rate + "회)");
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 좋아요 분할 카운터 전환 실패 (" + target + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드 합계를 대상의 like_count로 옮기고, 되돌릴 때는 샤드 행을 지웁니다.
+     * 샤드 행을 잠근 채 한 트랜잭션으로 처리하므로 합계를 읽는 쪽은 옮기기 전후 중 하나만 봅니다.
+     * 잠금은 대상 행 → 샤드 행 순으로 잡습니다. 토글은 대상 행과 샤드 행 중 하나만 잠그므로 이 순서와 엇갈리지 않습니다.
+     */
+    private void fold(Target target, boolean demote) {
+        byte type = target.type().getCode();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM " + target.type().getTargetTable() + " WHERE id = ? FOR UPDATE",
+                    Long.class, target.targetId());
+            List<Long> sums = jdbcTemplate.queryForList(
+                    "SELECT like_count FROM like_counter_shards WHERE target_type = ? AND target_id = ? FOR UPDATE",
+                    Long.class, type, target.targetId());
+            long sum = sums.stream().mapToLong(Long::longValue).sum();
+            if (sum != 0) {
+                jdbcTemplate.update("UPDATE " + target.type().getTargetTable() + " SET like_count = like_count + ? WHERE id = ?",
+                        sum, target.targetId());
+            }
+            if (demote) {
+                jdbcTemplate.update("DELETE FROM like_counter_shards WHERE target_type = ? AND target_id = ?",
+                        type, target.targetId());
+            } else if (sum != 0) {
+                jdbcTemplate.update("UPDATE like_counter_shards SET like_count = 0 WHERE target_type = ? AND target_id = ?",
+                        type, target.targetId());
+            }
+        });
+        if (demote) {
+            sharded.remove(target);
+            cachedCounts.remove(target);
+            System.out.println("✅ 좋아요 분할 카운터 해제 (" + target + ")");
+        }
+    }
+
+    /**
+     * 대상 행의 like_count를 증감하고 갱신된 값을 반환합니다.
+     */
+    private long addToTarget(LikeTargetType type, Long targetId, int delta) {
+        String table = type.getTargetTable();
+        if (returnsUpdatedCount()) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "UPDATE " + table + " SET like_count = LAST_INSERT_ID(like_count + ?) WHERE id = ?",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setInt(1, delta);
+                statement.setLong(2, targetId);
+                return statement;
+            }, keyHolder);
+            // 갱신된 값이 0이면 드라이버가 생성 키를 돌려주지 않음
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            return keys.isEmpty() ? 0 : ((Number) keys.get(0).values().iterator().next()).longValue();
+        }
+        jdbcTemplate.update("UPDATE " + table + " SET like_count = like_count + ? WHERE id = ?", delta, targetId);
+        List<Long> counts = jdbcTemplate.queryForList("SELECT like_count FROM " + table + " WHERE id = ?", Long.class, targetId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    private boolean returnsUpdatedCount() {
+        Boolean mysql = returnsUpdatedCount;
+        if (mysql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            mysql = product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+            returnsUpdatedCount = mysql;
+        }
+        return mysql;
+    }
+
+    private int shardOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+    }
+
+    private record Target(LikeTargetType type, Long targetId) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+
+        CachedCount plus(int delta) {
+            return new CachedCount(count + delta, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.smartcampus.back.post.notification;
+
+import com.smartcampus.back.post.enums.ActivityType;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.event.ActivityEvent;
+import com.smartcampus.back.post.event.LikeToggledEvent;
+import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.projection.ContentWriter;
+import com.smartcampus.back.post.service.NotificationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 활동 알림 집계기
+ *
+ * <p>좋아요, 댓글, 대댓글 이벤트를 커밋 후 받아 (활동 유형, 대상) 단위로 모았다가, 대상마다 알림 하나로 합쳐
+ * 작성자에게 보냅니다. 인기 게시글에 좋아요가 수백 개 달려도 "사용자 12님 외 37명이 회원님의 게시글을 좋아합니다."
+ * 알림 로그 하나와 푸시 하나만 나갑니다. 저장과 발송은 {@link NotificationService}의 발송 대기(outbox) 경로를 따릅니다.</p>
+ *
+ * <ul>
+ *     <li>마지막 활동 후 {@code quiet-ms} 동안 새 활동이 없으면 발송 (활동이 이어지는 동안 창이 밀려남)</li>
+ *     <li>활동이 계속 이어져도 첫 활동 후 {@code max-delay-ms}가 지나면 발송</li>
+ *     <li>발송 전에 좋아요를 취소한 사용자는 빼고, 자기 글에 한 활동은 알리지 않음</li>
+ * </ul>
+ *
+ * <p>모은 활동은 메모리에만 있으므로, 종료 시 남은 것을 모두 발송하고 비정상 종료 시에는 잃을 수 있습니다.
+ * 저장에 실패하면(DB 연결 실패 포함) 꺼낸 활동을 다시 보관해 다음 주기에 보냅니다.</p>
+ *
+ * <p>창은 인스턴스마다 따로 있으므로 단일 인스턴스 운영을 전제로 합니다. 여러 인스턴스로 운영하면 같은 대상의 활동이
+ * 인스턴스 수만큼 나뉘어 모이고, 작성자는 인스턴스마다 "외 n명" 알림을 하나씩 받습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityNotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 마지막 활동 후 이 시간 동안 새 활동이 없으면 발송
+     */
+    @Value("${post.notification.activity.quiet-ms:60000}")
+    private long quietMs;
+
+    /**
+     * 첫 활동 후 이 시간이 지나면 활동이 이어지더라도 발송
+     */
+    @Value("${post.notification.activity.max-delay-ms:300000}")
+    private long maxDelayMs;
+
+    private final ConcurrentHashMap<Key, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 댓글/대댓글 작성을 모읍니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(ActivityEvent event) {
+        if (Objects.equals(event.getActorId(), event.getRecipientId())) {
+            return;
+        }
+        record(new Key(event.getType(), event.getTargetId()), event.getRecipientId(), event.getActorId());
+    }
+
+    /**
+     * 게시글 좋아요를 모읍니다. 수신자(게시글 작성자)는 발송할 때 한 번에 조회합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event) {
+        if (event.getType() != LikeTargetType.POST) {
+            return;
+        }
+        Key key = new Key(ActivityType.POST_LIKED, event.getTargetId());
+        if (event.isLiked()) {
+            record(key, null, event.getUserId());
+        } else {
+            windows.computeIfPresent(key, (k, window) -> {
+                window.actors.remove(event.getUserId());
+                return window.actors.isEmpty() ? null : window;
+            });
+        }
+    }
+
+    /**
+     * 발송할 때가 된 활동을 알림으로 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${post.notification.activity.flush-interval-ms:10000}")
+    public void flush() {
+        flush(false);
+    }
+
+    /**
+     * 종료 시 남은 활동을 모두 보냅니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        flush(true);
+    }
+
+    /**
+     * 모으고 있는 대상 수
+     */
+    public int pendingCount() {
+        return windows.size();
+    }
+
+    private void record(Key key, Long recipientId, Long actorId) {
+        long now = System.nanoTime();
+        windows.compute(key, (k, window) -> {
+            if (window == null) {
+                window = new Window(recipientId, now);
+            }
+            window.lastAt = now;
+            // 가장 최근 활동한 사용자가 알림 문구에 나오도록 맨 뒤로 옮김
+            window.actors.remove(actorId);
+            window.actors.add(actorId);
+            return window;
+        });
+    }
+
+    private synchronized void flush(boolean all) {
+        long now = System.nanoTime();
+        long quietNanos = TimeUnit.MILLISECONDS.toNanos(quietMs);
+        long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+
+        Map<Key, Window> due = new LinkedHashMap<>();
+        for (Key key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) -> {
+                if (all || now - window.lastAt >= quietNanos || now - window.firstAt >= maxDelayNanos) {
+                    due.put(k, window);
+                    return null;
+                }
+                return window;
+            });
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Long> postWriters = findPostWriters(due);
+            Integer sent = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Map.Entry<Key, Window> entry : due.entrySet()) {
+                    Key key = entry.getKey();
+                    Window window = entry.getValue();
+                    Long recipientId = window.recipientId != null ? window.recipientId : postWriters.get(key.targetId());
+                    if (recipientId == null) {
+                        continue; // 그 사이 삭제된 게시글
+                    }
+                    LinkedHashSet<Long> actors = new LinkedHashSet<>(window.actors);
+                    actors.remove(recipientId);
+                    if (actors.isEmpty()) {
+                        continue;
+                    }
+                    notificationService.sendNotificationToUser(recipientId, titleOf(key.type()), bodyOf(key.type(), actors));
+                    count++;
+                }
+                return count;
+            });
+            if (sent != null && sent > 0) {
+                System.out.println("✅ 활동 알림 " + sent + "건 접수 (대상 " + due.size() + "개)");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ 활동 알림 저장 실패 (" + due.size() + "건, 다음 주기에 재시도): " + e.getMessage());
+            // 그 사이 새로 모인 활동과 합쳐 다시 보관
+            due.forEach((key, window) -> windows.merge(key, window, (newer, older) -> {
+                older.lastAt = newer.lastAt;
+                newer.actors.forEach(actor -> {
+                    older.actors.remove(actor);
+                    older.actors.add(actor);
+                });
+                return older;
+            }));
+        }
+    }
+
+    /**
+     * 수신자를 모르는 게시글 좋아요 대상의 작성자를 한 번에 조회합니다.
+     */
+    private Map<Long, Long> findPostWriters(Map<Key, Window> due) {
+        Set<Long> postIds = due.entrySet().stream()
+                .filter(entry -> entry.getValue().recipientId == null)
+                .map(entry -> entry.getKey().targetId())
+                .collect(Collectors.toSet());
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findWritersByIdIn(postIds).stream()
+                .collect(Collectors.toMap(ContentWriter::getId, ContentWriter::getWriterId));
+    }
+
+    private static String titleOf(ActivityType type) {
+        return switch (type) {
+            case POST_LIKED -> "새 좋아요";
+            case POST_COMMENTED -> "새 댓글";
+            case COMMENT_REPLIED -> "새 답글";
+        };
+    }
+
+    /**
+     * 예) "사용자 12님 외 37명이 회원님의 게시글을 좋아합니다."
+     */
+    private static String bodyOf(ActivityType type, LinkedHashSet<Long> actors) {
+        int others = actors.size() - 1;
+        String who = "사용자 " + actors.getLast() + (others > 0 ? "님 외 " + others + "명이" : "님이");
+        return switch (type) {
+            case POST_LIKED -> who + " 회원님의 게시글을 좋아합니다.";
+            case POST_COMMENTED -> who + " 회원님의 게시글에 댓글을 남겼습니다.";
+            case COMMENT_REPLIED -> who + " 회원님의 댓글에 답글을 남겼습니다.";
+        };
+    }
+
+    /**
+     * 알림을 합치는 단위 (활동 유형 + 대상 ID)
+     */
+    private record Key(ActivityType type, Long targetId) {
+    }
+
+    /**
+     * 대상 하나에 모인 활동 (맵의 compute 안에서만 변경)
+     */
+    private static final class Window {
+        private final Long recipientId;
+        private final long firstAt;
+        private long lastAt;
+        private final LinkedHashSet<Long> actors = new LinkedHashSet<>();
+
+        private Window(Long recipientId, long firstAt) {
+            this.recipientId = recipientId;
+            this.firstAt = firstAt;
+            this.lastAt = firstAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.smartcampus.back.post.notification;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 재시도 대기 시간 계산
+ */
+final class Backoff {
+
+    private Backoff() {
+    }
+
+    /**
+     * 지수 백오프 + 전체 지터: 0 ~ min(최댓값, 기본값 x 2^(시도-1)) 사이 임의 값, Retry-After가 있으면 그 이상
+     *
+     * @param attempt 방금 실패한 시도 번호 (1부터)
+     * @param baseMs 첫 재시도 대기 상한
+     * @param maxMs 대기 상한의 최댓값
+     * @param retryAfter 서버가 요청한 대기 시간 (없으면 null)
+     * @return 대기 시간 (나노초)
+     */
+    static long delayNanos(int attempt, long baseMs, long maxMs, Duration retryAfter) {
+        long ceilingMs = Math.min(maxMs, baseMs << Math.min(attempt - 1, 20));
+        long delayMs = ThreadLocalRandom.current().nextLong(ceilingMs + 1);
+        if (retryAfter != null) {
+            delayMs = Math.max(delayMs, retryAfter.toMillis());
+        }
+        return TimeUnit.MILLISECONDS.toNanos(delayMs);
+    }
+}
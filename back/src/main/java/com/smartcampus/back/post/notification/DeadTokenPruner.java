@@ -0,0 +1,138 @@
+package com.smartcampus.back.post.notification;
+
+import com.smartcampus.back.post.repository.DeviceTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 죽은 디바이스 토큰 정리기
+ *
+ * <p>FCM이 토큰에 대해서만 나는 실패인 UNREGISTERED(앱 삭제, 토큰 만료) 또는 SENDER_ID_MISMATCH(다른 프로젝트의 토큰)로
+ * 응답한 토큰을 모아 두었다가, 주기마다 배치로 디바이스 토큰 저장소에서 삭제합니다.
+ * 전송 경로는 토큰을 표시만 하므로 DB 쓰기를 기다리지 않습니다.
+ * 같은 주기에 오래 등록되지 않은 토큰({@code post.notification.token-prune.stale-days})도 함께 삭제합니다.</p>
+ *
+ * <ul>
+ *     <li>INVALID_ARGUMENT는 잘못된 토큰뿐 아니라 잘못된 메시지(너무 큰 데이터 등)에도 오므로, 한 번의 잘못된 알림이
+ *         등록부 전체를 지우지 않도록 토큰 삭제 근거로 쓰지 않음 (형식이 잘못된 토큰은 오래된 토큰 정리로 지워짐)</li>
+ *     <li>요청 전체가 실패해 토큰마다 채운 결과({@link PushResult#requestFailure()})는 토큰 상태를 알려주지 않으므로 무시</li>
+ *     <li>보고 시각 이후 앱이 같은 토큰을 다시 등록했다면(last_seen 갱신) 살아 있는 토큰이므로 삭제하지 않음</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadTokenPruner {
+
+    private static final Set<String> DEAD_TOKEN_CODES = Set.of("UNREGISTERED", "SENDER_ID_MISMATCH");
+
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 번에 삭제할 최대 토큰 수
+     */
+    @Value("${post.notification.token-prune.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 이 기간 동안 다시 등록되지 않은 토큰은 삭제 (0이면 사용 안 함)
+     */
+    @Value("${post.notification.token-prune.stale-days:270}")
+    private long staleDays;
+
+    /**
+     * 죽은 토큰 → 보고 시각 (last_seen과 같은 초 단위)
+     */
+    private final Map<String, LocalDateTime> deadTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 실패 코드가 토큰이 죽었음을 뜻하는지 여부
+     */
+    public static boolean isDeadToken(String errorCode) {
+        return errorCode != null && DEAD_TOKEN_CODES.contains(errorCode);
+    }
+
+    /**
+     * 전송 실패를 보고합니다. 죽은 토큰이면 다음 주기에 삭제합니다.
+     *
+     * @param token FCM 토큰
+     * @param errorCode 실패 코드
+     */
+    public void report(String token, String errorCode) {
+        if (isDeadToken(errorCode)) {
+            deadTokens.put(token, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+    /**
+     * 다중 전송의 실패 토큰들을 보고합니다. (요청 전체의 실패로 채운 결과는 제외)
+     */
+    public void reportAll(MulticastResult result) {
+        result.failures().stream()
+                .filter(failure -> !failure.requestFailure())
+                .forEach(failure -> report(failure.token(), failure.errorCode()));
+    }
+
+    /**
+     * 정리를 기다리는 토큰 수
+     */
+    public int pendingCount() {
+        return deadTokens.size();
+    }
+
+    /**
+     * 모아 둔 죽은 토큰과 오래된 토큰을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.notification.token-prune.interval-ms:10000}")
+    @PreDestroy
+    public synchronized void prune() {
+        int pruned = 0;
+        while (!deadTokens.isEmpty()) {
+            Map<String, LocalDateTime> batch = new HashMap<>(batchSize);
+            Iterator<Map.Entry<String, LocalDateTime>> iterator = deadTokens.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Map.Entry<String, LocalDateTime> entry = iterator.next();
+                batch.put(entry.getKey(), entry.getValue());
+            }
+            // 배치에서 가장 이른 보고 시각을 기준으로 하여, 어느 토큰이든 보고 이후 다시 등록되었다면 남김
+            LocalDateTime reportedAt = Collections.min(batch.values());
+            try {
+                Integer deleted = transactionTemplate.execute(status ->
+                        deviceTokenRepository.deleteByTokenInAndLastSeenBefore(batch.keySet(), reportedAt));
+                pruned += deleted == null ? 0 : deleted;
+            } catch (DataAccessException e) {
+                System.err.println("⚠️ 죽은 토큰 정리 실패 (" + batch.size() + "건, 다음 주기에 재시도): " + e.getMessage());
+                return;
+            }
+            // 정리하는 동안 다시 보고된 토큰은 남겨 다음 주기에 처리
+            batch.forEach(deadTokens::remove);
+        }
+
+        if (staleDays > 0) {
+            try {
+                Integer deleted = transactionTemplate.execute(status ->
+                        deviceTokenRepository.deleteByLastSeenBefore(LocalDateTime.now().minusDays(staleDays)));
+                pruned += deleted == null ? 0 : deleted;
+            } catch (DataAccessException e) {
+                System.err.println("⚠️ 오래된 토큰 정리 실패: " + e.getMessage());
+            }
+        }
+        if (pruned > 0) {
+            System.out.println("✅ 디바이스 토큰 정리 완료 (" + pruned + "건 삭제)");
+        }
+    }
+}
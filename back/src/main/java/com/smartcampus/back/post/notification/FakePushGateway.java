@@ -0,0 +1,100 @@
+package com.smartcampus.back.post.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 호출 없이 FCM을 흉내 내는 푸시 게이트웨이 ({@code post.notification.gateway=fake})
+ *
+ * <p>요청마다 설정한 지연만큼 기다린 뒤, 메시지(다중 전송은 토큰)마다 설정한 비율로
+ * 재시도 가능한 실패(UNAVAILABLE)나 죽은 토큰 실패(UNREGISTERED)를 냅니다.
+ * 부하 테스트에서 FCM 요금이나 할당량 없이 발송 파이프라인의 처리량과 재시도 동작을 확인하는 데 사용합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.notification.gateway", havingValue = "fake")
+public class FakePushGateway implements PushGateway {
+
+    /**
+     * 전송 한 건의 지연 시간
+     */
+    @Value("${post.notification.fake.latency-ms:50}")
+    private long latencyMs;
+
+    /**
+     * 재시도 가능한 실패를 낼 비율 (0.0 ~ 1.0)
+     */
+    @Value("${post.notification.fake.failure-rate:0.0}")
+    private double failureRate;
+
+    /**
+     * 토큰이 죽었다는 실패(UNREGISTERED)를 낼 비율 (0.0 ~ 1.0)
+     */
+    @Value("${post.notification.fake.unregistered-rate:0.0}")
+    private double unregisteredRate;
+
+    private final AtomicLong sent = new AtomicLong();
+
+    @Override
+    public void send(PushMessage message, Duration timeout) throws PushDeliveryException {
+        pause(timeout);
+        PushResult result = outcome(message.token());
+        if (!result.successful()) {
+            throw new PushDeliveryException(result.errorCode(), result.retryable(), null, "가짜 전송 실패", null);
+        }
+    }
+
+    @Override
+    public List<PushResult> sendMulticast(List<String> tokens, String title, String body, Duration timeout)
+            throws PushDeliveryException {
+        pause(timeout);
+        List<PushResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(outcome(token));
+        }
+        return results;
+    }
+
+    /**
+     * 설정한 비율에 따라 토큰 하나의 결과를 정합니다.
+     */
+    private PushResult outcome(String token) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < unregisteredRate) {
+            return PushResult.failure(token, "UNREGISTERED", false);
+        }
+        if (roll < unregisteredRate + failureRate) {
+            return PushResult.failure(token, "UNAVAILABLE", true);
+        }
+        sent.incrementAndGet();
+        return PushResult.success(token);
+    }
+
+    /**
+     * 설정한 지연만큼 기다리며, 지연이 허용 시간을 넘으면 시간 초과로 실패합니다.
+     */
+    private void pause(Duration timeout) throws PushDeliveryException {
+        try {
+            Thread.sleep(Math.min(latencyMs, timeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PushDeliveryException("CANCELLED", true, null, "가짜 전송 중단", e);
+        }
+        if (latencyMs > timeout.toMillis()) {
+            throw new PushDeliveryException("DEADLINE_EXCEEDED", true, null, "가짜 전송 시간 초과", null);
+        }
+    }
+
+    /**
+     * 성공한 전송 수
+     */
+    public long sentCount() {
+        return sent.get();
+    }
+}
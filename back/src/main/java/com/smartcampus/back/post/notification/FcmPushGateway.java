@@ -0,0 +1,140 @@
+package com.smartcampus.back.post.notification;
+
+import com.google.api.core.ApiFuture;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.IncomingHttpResponse;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Firebase Cloud Messaging 푸시 게이트웨이 (기본)
+ *
+ * <p>비동기 전송 API로 보내고 시도마다 주어진 시간까지만 기다립니다.
+ * 다중 전송은 지원 중단된 sendMulticast 대신 sendEachForMulticast를 사용하여 토큰별 결과를 받습니다.
+ * 일시적인 FCM 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED 등)와 시간 초과는 재시도 가능한 실패로,
+ * 잘못된 토큰이나 인증 오류는 재시도하지 않는 실패로 구분합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "post.notification.gateway", havingValue = "fcm", matchIfMissing = true)
+public class FcmPushGateway implements PushGateway {
+
+    private static final Set<MessagingErrorCode> RETRYABLE_MESSAGING_CODES = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private static final Set<ErrorCode> RETRYABLE_CODES = Set.of(
+            ErrorCode.UNAVAILABLE, ErrorCode.INTERNAL, ErrorCode.DEADLINE_EXCEEDED, ErrorCode.RESOURCE_EXHAUSTED);
+
+    @Override
+    public void send(PushMessage message, Duration timeout) throws PushDeliveryException {
+        await(FirebaseMessaging.getInstance().sendAsync(toMessage(message)), timeout);
+    }
+
+    @Override
+    public List<PushResult> sendMulticast(List<String> tokens, String title, String body, Duration timeout)
+            throws PushDeliveryException {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
+                .build();
+        BatchResponse response = await(FirebaseMessaging.getInstance().sendEachForMulticastAsync(message), timeout);
+
+        List<PushResult> results = new ArrayList<>(tokens.size());
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                results.add(PushResult.success(tokens.get(i)));
+            } else {
+                PushDeliveryException failure = translate(sendResponse.getException());
+                results.add(PushResult.failure(tokens.get(i), failure.getErrorCode(), failure.isRetryable()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 비동기 전송 결과를 주어진 시간까지만 기다립니다.
+     */
+    private static <T> T await(ApiFuture<T> future, Duration timeout) throws PushDeliveryException {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PushDeliveryException(ErrorCode.DEADLINE_EXCEEDED.name(), true, null,
+                    "FCM 응답 시간 초과 (" + timeout.toMillis() + "ms)", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PushDeliveryException(ErrorCode.CANCELLED.name(), true, null, "FCM 전송 중단", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FirebaseMessagingException fcmException) {
+                throw translate(fcmException);
+            }
+            throw new PushDeliveryException(ErrorCode.UNKNOWN.name(), false, null, "FCM 전송 실패: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * FCM 예외를 재시도 여부가 붙은 전송 실패로 바꿉니다.
+     */
+    static PushDeliveryException translate(FirebaseMessagingException e) {
+        MessagingErrorCode messagingCode = e.getMessagingErrorCode();
+        boolean retryable = messagingCode != null
+                ? RETRYABLE_MESSAGING_CODES.contains(messagingCode)
+                : RETRYABLE_CODES.contains(e.getErrorCode());
+        String code = messagingCode != null ? messagingCode.name() : e.getErrorCode().name();
+        return new PushDeliveryException(code, retryable, retryAfter(e.getHttpResponse()), e.getMessage(), e);
+    }
+
+    static Message toMessage(PushMessage message) {
+        return Message.builder()
+                .setToken(message.token())
+                .setNotification(Notification.builder()
+                        .setTitle(message.title())
+                        .setBody(message.body())
+                        .build())
+                .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
+                .build();
+    }
+
+    /**
+     * Retry-After 헤더(초 단위)를 읽습니다. 없거나 날짜 형식이면 null
+     */
+    private static Duration retryAfter(IncomingHttpResponse response) {
+        if (response == null) {
+            return null;
+        }
+        Object value = response.getHeaders().get("retry-after");
+        if (value instanceof List<?> values) {
+            value = values.isEmpty() ? null : values.get(0);
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.toString().strip()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
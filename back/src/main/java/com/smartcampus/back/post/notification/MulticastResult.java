@@ -0,0 +1,28 @@
+package com.smartcampus.back.post.notification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 전송 전체 결과 (모든 묶음의 토큰별 결과를 합친 것)
+ *
+ * @param tokenCount 중복을 제거한 대상 토큰 수
+ * @param successCount 전송에 성공한 토큰 수
+ * @param failures 끝내 실패한 토큰별 결과
+ */
+public record MulticastResult(int tokenCount, int successCount, List<PushResult> failures) {
+
+    public int failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * 실패 코드별 토큰 수
+     */
+    public Map<String, Long> failuresByCode() {
+        return failures.stream()
+                .collect(Collectors.groupingBy(PushResult::errorCode, TreeMap::new, Collectors.counting()));
+    }
+}
@@ -0,0 +1,305 @@
+package com.smartcampus.back.post.notification;
+
+import com.smartcampus.back.post.enums.OutboxStatus;
+import com.smartcampus.back.post.repository.NotificationOutboxRepository;
+import com.smartcampus.back.post.service.DeviceTokenService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 대기(outbox) 중계기
+ *
+ * <p>알림 로그와 같은 트랜잭션에 저장된 발송 대기 항목을 전용 가상 스레드에서 주기적으로(polling) 배치 단위로 가져가 발송하고, 항목마다 최종 상태를 기록합니다.
+ * API는 DB 커밋 직후 응답하며, 커밋되지 않은 알림은 발송되지 않고 커밋된 알림은 중계기가 멈췄다 다시 떠도 발송됩니다.</p>
+ *
+ * <ul>
+ *     <li>가져가기: {@code FOR UPDATE SKIP LOCKED}로 잠그고 SENDING + 작업 식별자(claim_id) + 임대 만료 시각을 기록한 뒤 커밋
+ *         (여러 인스턴스가 동시에 돌아도 같은 항목을 나눠 가지지 않음)</li>
+ *     <li>발송: 같은 제목/본문 항목을 묶어 수신자들의 모든 디바이스로 {@link PushMulticaster} 다중 전송</li>
+ *     <li>기록: claim_id가 일치하는 SENDING 항목만 갱신하므로, 임대가 만료되어 다른 작업이 다시 가져간 항목의 상태는 한 번만 기록됨</li>
+ *     <li>재시도 가능한 실패만 남은 항목은 백오프 후 다시 대기, 시도 횟수를 넘기면 FAILED</li>
+ * </ul>
+ *
+ * <p>중계기가 전송 후 상태를 기록하기 전에 멈추면 임대 만료 후 다시 발송되므로, 푸시 자체는 드물게 중복될 수 있습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    private static final String CLAIM_SELECT_SQL = "SELECT id FROM notification_outbox "
+            + "WHERE (status = 'PENDING' AND available_at <= ?) OR (status = 'SENDING' AND lease_until <= ?) "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String COMPLETE_SQL = "UPDATE notification_outbox "
+            + "SET status = ?, processed_at = ?, last_error = ?, claim_id = NULL, lease_until = NULL "
+            + "WHERE id = ? AND status = 'SENDING' AND claim_id = ?";
+
+    private static final String RETRY_SQL = "UPDATE notification_outbox "
+            + "SET status = 'PENDING', available_at = ?, last_error = ?, claim_id = NULL, lease_until = NULL "
+            + "WHERE id = ? AND status = 'SENDING' AND claim_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PushMulticaster pushMulticaster;
+    private final DeviceTokenService deviceTokenService;
+    private final DeadTokenPruner deadTokenPruner;
+    private final NotificationOutboxRepository outboxRepository;
+
+    /**
+     * 한 번에 가져갈 최대 항목 수
+     */
+    @Value("${post.notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 가져간 항목의 임대 시간 (이 시간 안에 상태를 기록하지 못하면 다시 발송 대상)
+     */
+    @Value("${post.notification.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    /**
+     * 항목당 최대 발송 시도 횟수
+     */
+    @Value("${post.notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 첫 재시도 대기 상한 (이후 시도마다 두 배)
+     */
+    @Value("${post.notification.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    /**
+     * 재시도 대기 상한의 최댓값
+     */
+    @Value("${post.notification.outbox.backoff-max-ms:60000}")
+    private long backoffMaxMs;
+
+    /**
+     * 최종 상태가 기록된 항목을 보관하는 기간
+     */
+    @Value("${post.notification.outbox.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * 대기 항목이 없을 때 다음 확인까지 쉬는 시간
+     */
+    @Value("${post.notification.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    /**
+     * 전용 가상 스레드에서 중계를 시작합니다. (발송 완료를 기다리는 동안 공용 스케줄러 스레드를 잡지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("notification-outbox-relay").start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(Duration.ofMillis(leaseMs));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                // DB 연결 실패(TransactionException)를 포함해 어떤 오류에도 중계 스레드가 끝나지 않도록 함
+                // (가져간 항목은 임대가 만료되면 다시 발송 대상)
+                System.err.println("⚠️ 알림 발송 대기 처리 실패 (다음 주기에 재시도): " + e.getMessage());
+                relayed = 0;
+            }
+            // 가득 찬 배치였다면 남은 항목이 있을 수 있으므로 쉬지 않고 이어서 처리
+            if (relayed < batchSize) {
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 최종 상태가 기록된 지 보관 기간이 지난 항목을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.notification.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteProcessedBefore(
+                List.of(OutboxStatus.SENT, OutboxStatus.SKIPPED, OutboxStatus.FAILED),
+                LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            System.out.println("✅ 처리 완료된 알림 발송 대기 " + deleted + "건 정리");
+        }
+    }
+
+    /**
+     * 한 배치를 가져가 발송하고 상태를 기록합니다.
+     *
+     * @return 가져간 항목 수
+     */
+    int relayBatch() {
+        String claimId = UUID.randomUUID().toString();
+        List<OutboxEntry> entries = claim(claimId);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> tokensByUser = deviceTokenService.findTokensByUser(
+                entries.stream().map(OutboxEntry::userId).collect(Collectors.toSet()));
+
+        Map<List<String>, List<OutboxEntry>> byContent = entries.stream()
+                .collect(Collectors.groupingBy(entry -> List.of(entry.title(), entry.body()), LinkedHashMap::new, Collectors.toList()));
+
+        List<Object[]> completed = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<List<String>, List<OutboxEntry>> group : byContent.entrySet()) {
+            List<String> tokens = new ArrayList<>();
+            group.getValue().forEach(entry -> tokens.addAll(tokensByUser.getOrDefault(entry.userId(), List.of())));
+
+            Map<String, PushResult> failures = send(tokens, group.getKey().get(0), group.getKey().get(1));
+            for (OutboxEntry entry : group.getValue()) {
+                List<String> userTokens = tokensByUser.getOrDefault(entry.userId(), List.of());
+                Outcome outcome = outcomeOf(userTokens, failures);
+                if (outcome.retry() && entry.attempts() < maxAttempts) {
+                    long delayNanos = Backoff.delayNanos(entry.attempts(), backoffBaseMs, backoffMaxMs, null);
+                    retries.add(new Object[]{Timestamp.valueOf(LocalDateTime.now().plusNanos(delayNanos)),
+                            outcome.error(), entry.id(), claimId});
+                } else {
+                    OutboxStatus status = outcome.retry() ? OutboxStatus.FAILED : outcome.status();
+                    completed.add(new Object[]{status.name(), now, outcome.error(), entry.id(), claimId});
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completed.isEmpty()) {
+                jdbcTemplate.batchUpdate(COMPLETE_SQL, completed);
+            }
+            if (!retries.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_SQL, retries);
+            }
+        });
+        return entries.size();
+    }
+
+    /**
+     * 발송할 항목을 잠그고 SENDING으로 표시한 뒤 커밋합니다.
+     */
+    private List<OutboxEntry> claim(String claimId) {
+        List<OutboxEntry> entries = transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Long> ids = jdbcTemplate.queryForList(CLAIM_SELECT_SQL, Long.class, now, now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            List<Object> args = new ArrayList<>();
+            args.add(claimId);
+            args.add(Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(leaseMs))));
+            args.addAll(ids);
+            jdbcTemplate.update("UPDATE notification_outbox SET status = 'SENDING', claim_id = ?, lease_until = ?, "
+                    + "attempts = attempts + 1 WHERE id IN (" + placeholders + ")", args.toArray());
+            return jdbcTemplate.query("SELECT id, user_id, title, body, attempts FROM notification_outbox "
+                            + "WHERE id IN (" + placeholders + ") ORDER BY id",
+                    (rs, rowNum) -> new OutboxEntry(rs.getLong("id"), rs.getLong("user_id"),
+                            rs.getString("title"), rs.getString("body"), rs.getInt("attempts")),
+                    ids.toArray());
+        });
+        return entries == null ? List.of() : entries;
+    }
+
+    /**
+     * 토큰들로 다중 전송하고 실패한 토큰의 결과를 반환합니다.
+     */
+    private Map<String, PushResult> send(List<String> tokens, String title, String body) {
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        MulticastResult result;
+        try {
+            result = pushMulticaster.send(tokens, title, body).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(tokens, "CANCELLED");
+        } catch (ExecutionException e) {
+            return failAll(tokens, "UNKNOWN");
+        }
+        deadTokenPruner.reportAll(result);
+        Map<String, PushResult> failures = new HashMap<>();
+        result.failures().forEach(failure -> failures.put(failure.token(), failure));
+        return failures;
+    }
+
+    private static Map<String, PushResult> failAll(List<String> tokens, String errorCode) {
+        Map<String, PushResult> failures = new HashMap<>();
+        tokens.forEach(token -> failures.put(token, PushResult.requestFailure(token, errorCode, true)));
+        return failures;
+    }
+
+    /**
+     * 수신자 디바이스들의 전송 결과로 항목의 상태를 정합니다.
+     * 하나라도 성공하면 SENT, 디바이스가 없으면 SKIPPED, 재시도 가능한 실패가 있으면 재시도, 그 외 FAILED
+     */
+    private static Outcome outcomeOf(List<String> userTokens, Map<String, PushResult> failures) {
+        if (userTokens.isEmpty()) {
+            return new Outcome(OutboxStatus.SKIPPED, false, "등록된 디바이스 없음");
+        }
+        Set<String> errors = new HashSet<>();
+        boolean retryable = false;
+        for (String token : userTokens) {
+            PushResult failure = failures.get(token);
+            if (failure == null) {
+                return new Outcome(OutboxStatus.SENT, false, null);
+            }
+            errors.add(failure.errorCode());
+            retryable |= failure.retryable();
+        }
+        return new Outcome(OutboxStatus.FAILED, retryable, String.join(",", errors));
+    }
+
+    /**
+     * 가져간 발송 대기 항목
+     */
+    private record OutboxEntry(Long id, Long userId, String title, String body, int attempts) {
+    }
+
+    /**
+     * 항목 하나의 발송 결과 (retry가 true이면 status 대신 재시도)
+     */
+    private record Outcome(OutboxStatus status, boolean retry, String error) {
+    }
+}
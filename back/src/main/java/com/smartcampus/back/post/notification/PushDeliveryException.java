@@ -0,0 +1,36 @@
+package com.smartcampus.back.post.notification;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 푸시 전송 실패
+ *
+ * <p>게이트웨이 구현과 무관하게 재시도 여부와 서버가 요청한 대기 시간을 전달합니다.</p>
+ */
+@Getter
+public class PushDeliveryException extends Exception {
+
+    /**
+     * 실패 코드 (FCM의 MessagingErrorCode 또는 ErrorCode 이름, 예: UNAVAILABLE, UNREGISTERED)
+     */
+    private final String errorCode;
+
+    /**
+     * 같은 메시지를 다시 보내면 성공할 수 있는 실패인지 여부
+     */
+    private final boolean retryable;
+
+    /**
+     * 서버가 Retry-After로 요청한 대기 시간 (없으면 null)
+     */
+    private final Duration retryAfter;
+
+    public PushDeliveryException(String errorCode, boolean retryable, Duration retryAfter, String message, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+        this.retryable = retryable;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,210 @@
+package com.smartcampus.back.post.notification;
+
+import com.smartcampus.back.post.exception.NotificationQueueFullException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 푸시 발송기
+ *
+ * <p>요청 스레드는 메시지를 크기가 제한된 메모리 큐에 넣고 바로 돌아가며, 가상 스레드 작업자들이 큐에서 꺼내
+ * {@link PushGateway}로 전송합니다. FCM이 느려져도 Tomcat 작업자는 묶이지 않고, 큐가 가득 차면
+ * {@link NotificationQueueFullException}으로 즉시 거절하여 밀린 작업이 메모리를 채우지 않게 합니다.</p>
+ *
+ * <ul>
+ *     <li>메시지마다 접수 시점부터의 기한이 있으며, 각 전송 시도는 남은 기한까지만 기다림</li>
+ *     <li>재시도 가능한 실패는 지수 백오프에 전체 지터(0 ~ 상한 사이 임의 값)를 적용해 다시 시도하고,
+ *         서버가 Retry-After를 주면 그보다 먼저 보내지 않음</li>
+ *     <li>재시도할 수 없는 실패, 시도 횟수 초과, 기한 초과는 로그를 남기고 버림 (죽은 토큰은 {@link DeadTokenPruner}에 보고)</li>
+ *     <li>게이트웨이가 {@link PushDeliveryException} 외의 런타임 예외를 던지면 재시도할 수 없는 실패로 세고,
+ *         작업자 스레드는 다음 메시지를 계속 처리함</li>
+ *     <li>종료 시 유예 시간 동안 큐에 남은 메시지를 마저 보냄</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PushDispatcher {
+
+    private final PushGateway pushGateway;
+    private final DeadTokenPruner deadTokenPruner;
+
+    /**
+     * 큐에 쌓아 둘 수 있는 최대 메시지 수
+     */
+    @Value("${post.notification.dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * 동시에 전송하는 작업자(가상 스레드) 수
+     */
+    @Value("${post.notification.dispatch.workers:64}")
+    private int workerCount;
+
+    /**
+     * 접수부터 전송 완료까지 허용하는 시간
+     */
+    @Value("${post.notification.dispatch.deadline-ms:30000}")
+    private long deadlineMs;
+
+    /**
+     * 메시지당 최대 전송 시도 횟수 (첫 시도 포함)
+     */
+    @Value("${post.notification.dispatch.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 첫 재시도 대기 상한 (이후 시도마다 두 배)
+     */
+    @Value("${post.notification.dispatch.backoff-base-ms:200}")
+    private long backoffBaseMs;
+
+    /**
+     * 재시도 대기 상한의 최댓값
+     */
+    @Value("${post.notification.dispatch.backoff-max-ms:10000}")
+    private long backoffMaxMs;
+
+    /**
+     * 종료 시 남은 메시지를 보내며 기다릴 최대 시간
+     */
+    @Value("${post.notification.dispatch.shutdown-grace-ms:10000}")
+    private long shutdownGraceMs;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private BlockingQueue<PushTask> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("push-dispatch-" + i).start(this::work));
+        }
+    }
+
+    /**
+     * 메시지 전송을 접수합니다.
+     *
+     * @param message 전송할 메시지
+     * @throws NotificationQueueFullException 큐가 가득 찼거나 종료 중일 때
+     */
+    public void dispatch(PushMessage message) {
+        PushTask task = new PushTask(message, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs));
+        if (!running || !queue.offer(task)) {
+            throw new NotificationQueueFullException("알림 발송 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 큐에서 전송을 기다리는 메시지 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 전송에 성공한 메시지 수
+     */
+    public long deliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * 끝내 전송하지 못하고 버린 메시지 수
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long graceEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownGraceMs);
+        for (Thread worker : workers) {
+            long remaining = graceEnd - System.nanoTime();
+            if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                break;
+            }
+        }
+        workers.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            System.err.println("⚠️ 종료로 인해 푸시 " + queue.size() + "건을 보내지 못했습니다.");
+        }
+    }
+
+    private void work() {
+        while (running || !queue.isEmpty()) {
+            PushTask task;
+            try {
+                task = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task != null) {
+                deliver(task);
+            }
+        }
+    }
+
+    private void deliver(PushTask task) {
+        for (int attempt = 1; ; attempt++) {
+            long remaining = task.deadlineNanos() - System.nanoTime();
+            if (remaining <= 0) {
+                fail(task, "기한 초과 (" + (attempt - 1) + "회 시도)");
+                return;
+            }
+            try {
+                pushGateway.send(task.message(), Duration.ofNanos(remaining));
+                delivered.incrementAndGet();
+                return;
+            } catch (PushDeliveryException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    deadTokenPruner.report(task.message().token(), e.getErrorCode());
+                    fail(task, e.getErrorCode() + " (" + attempt + "회 시도): " + e.getMessage());
+                    return;
+                }
+                long delayNanos = Backoff.delayNanos(attempt, backoffBaseMs, backoffMaxMs, e.getRetryAfter());
+                if (System.nanoTime() + delayNanos >= task.deadlineNanos()) {
+                    fail(task, e.getErrorCode() + " 후 재시도 대기가 기한을 넘음 (" + attempt + "회 시도)");
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException interrupted) {
+                    fail(task, "종료로 재시도 중단");
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // 게이트웨이의 예상하지 못한 오류 (예: Firebase 미초기화) - 재시도하지 않고 작업자는 계속 동작
+                fail(task, "예상하지 못한 오류 (" + attempt + "회 시도): " + e);
+                return;
+            }
+        }
+    }
+
+    private void fail(PushTask task, String reason) {
+        failed.incrementAndGet();
+        System.err.println("❌ 푸시 전송 실패 - " + reason);
+    }
+
+    /**
+     * 큐 항목 (메시지 + 기한)
+     */
+    private record PushTask(PushMessage message, long deadlineNanos) {
+    }
+}
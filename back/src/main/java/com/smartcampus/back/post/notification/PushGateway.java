@@ -0,0 +1,42 @@
+package com.smartcampus.back.post.notification;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 푸시 전송 게이트웨이
+ *
+ * <p>{@code post.notification.gateway} 설정으로 구현을 고릅니다.</p>
+ * <ul>
+ *     <li>fcm (기본) - Firebase Cloud Messaging으로 전송 ({@link FcmPushGateway})</li>
+ *     <li>fake - 외부 호출 없이 지연과 실패만 흉내 냄, 부하 테스트용 ({@link FakePushGateway})</li>
+ * </ul>
+ */
+public interface PushGateway {
+
+    /**
+     * 다중 전송 요청 하나에 담을 수 있는 최대 토큰 수 (FCM 제한)
+     */
+    int MAX_MULTICAST_TOKENS = 500;
+
+    /**
+     * 메시지 하나를 전송합니다.
+     *
+     * @param message 전송할 메시지
+     * @param timeout 이번 시도에 허용할 최대 시간
+     * @throws PushDeliveryException 전송에 실패했거나 시간 안에 응답이 없을 때
+     */
+    void send(PushMessage message, Duration timeout) throws PushDeliveryException;
+
+    /**
+     * 같은 내용을 여러 디바이스에 한 번의 요청으로 전송합니다.
+     *
+     * @param tokens 수신 디바이스의 FCM 토큰 (최대 {@link #MAX_MULTICAST_TOKENS}개)
+     * @param title 알림 제목
+     * @param body 알림 본문
+     * @param timeout 이번 시도에 허용할 최대 시간
+     * @return 토큰별 결과 (tokens와 같은 순서)
+     * @throws PushDeliveryException 요청 전체가 실패했거나 시간 안에 응답이 없을 때
+     */
+    List<PushResult> sendMulticast(List<String> tokens, String title, String body, Duration timeout) throws PushDeliveryException;
+}
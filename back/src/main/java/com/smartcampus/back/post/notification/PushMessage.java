@@ -0,0 +1,11 @@
+package com.smartcampus.back.post.notification;
+
+/**
+ * 디바이스 한 대에 보낼 푸시 메시지
+ *
+ * @param token 수신 디바이스의 FCM 토큰
+ * @param title 알림 제목
+ * @param body 알림 본문
+ */
+public record PushMessage(String token, String title, String body) {
+}
@@ -0,0 +1,179 @@
+package com.smartcampus.back.post.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상 수 제한이 없는 다중 푸시 전송기
+ *
+ * <p>대상 토큰을 중복 제거한 뒤 FCM 제한인 {@value PushGateway#MAX_MULTICAST_TOKENS}개씩 묶어, 묶음마다 가상 스레드에서 동시에 전송하고
+ * 토큰별 결과를 하나의 {@link MulticastResult}로 합칩니다. 여러 다중 전송이 겹쳐도 FCM에 나가 있는 요청 수는
+ * 전역 한도({@code post.notification.multicast.max-in-flight})를 넘지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>요청 전체가 재시도 가능한 오류로 실패하면 묶음을, 일부 토큰만 재시도 가능한 오류이면 그 토큰들만 다시 보냄</li>
+ *     <li>재시도 대기는 지수 백오프 + 전체 지터이며, 대기하는 동안에는 전송 한도를 차지하지 않음</li>
+ *     <li>전송 시작부터의 기한을 넘긴 토큰은 DEADLINE_EXCEEDED로 실패 처리</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PushMulticaster {
+
+    private final PushGateway pushGateway;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 동시에 FCM에 보낼 수 있는 최대 다중 전송 요청 수 (모든 다중 전송 합계)
+     */
+    @Value("${post.notification.multicast.max-in-flight:16}")
+    private int maxInFlight;
+
+    /**
+     * 다중 전송 시작부터 모든 묶음 완료까지 허용하는 시간
+     */
+    @Value("${post.notification.multicast.deadline-ms:60000}")
+    private long deadlineMs;
+
+    /**
+     * 묶음당 최대 전송 시도 횟수 (첫 시도 포함)
+     */
+    @Value("${post.notification.multicast.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * 첫 재시도 대기 상한 (이후 시도마다 두 배)
+     */
+    @Value("${post.notification.multicast.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    /**
+     * 재시도 대기 상한의 최댓값
+     */
+    @Value("${post.notification.multicast.backoff-max-ms:10000}")
+    private long backoffMaxMs;
+
+    private Semaphore inFlight;
+
+    @PostConstruct
+    public void start() {
+        inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 같은 알림을 여러 디바이스에 전송합니다.
+     *
+     * @param tokens 수신 디바이스의 FCM 토큰 (개수 제한 없음, 중복은 한 번만 전송)
+     * @param title 알림 제목
+     * @param body 알림 본문
+     * @return 모든 묶음이 끝나면 완료되는 전체 결과
+     */
+    public CompletableFuture<MulticastResult> send(List<String> tokens, String title, String body) {
+        List<String> unique = List.copyOf(new LinkedHashSet<>(tokens));
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        List<CompletableFuture<List<PushResult>>> chunks = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += PushGateway.MAX_MULTICAST_TOKENS) {
+            List<String> chunk = unique.subList(from, Math.min(from + PushGateway.MAX_MULTICAST_TOKENS, unique.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk, title, body, deadlineNanos), executor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            int successCount = 0;
+            List<PushResult> failures = new ArrayList<>();
+            for (CompletableFuture<List<PushResult>> chunk : chunks) {
+                for (PushResult result : chunk.join()) {
+                    if (result.successful()) {
+                        successCount++;
+                    } else {
+                        failures.add(result);
+                    }
+                }
+            }
+            return new MulticastResult(unique.size(), successCount, failures);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 묶음 하나를 전송하고, 재시도 가능한 실패가 남으면 남은 토큰만 다시 보냅니다.
+     */
+    private List<PushResult> sendChunk(List<String> chunk, String title, String body, long deadlineNanos) {
+        List<PushResult> results = new ArrayList<>(chunk.size());
+        List<String> pending = chunk;
+        for (int attempt = 1; ; attempt++) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                failAll(results, pending, "DEADLINE_EXCEEDED", true);
+                return results;
+            }
+
+            Duration retryAfter = null;
+            List<String> retry = new ArrayList<>();
+            try {
+                for (PushResult result : sendWithinLimit(pending, title, body, Duration.ofNanos(remaining))) {
+                    if (result.successful() || !result.retryable() || attempt >= maxAttempts) {
+                        results.add(result);
+                    } else {
+                        retry.add(result.token());
+                    }
+                }
+            } catch (PushDeliveryException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    failAll(results, pending, e.getErrorCode(), e.isRetryable());
+                    return results;
+                }
+                retryAfter = e.getRetryAfter();
+                retry = pending;
+            } catch (InterruptedException e) {
+                failAll(results, pending, "CANCELLED", true);
+                return results;
+            }
+
+            if (retry.isEmpty()) {
+                return results;
+            }
+            pending = retry;
+            try {
+                TimeUnit.NANOSECONDS.sleep(Backoff.delayNanos(attempt, backoffBaseMs, backoffMaxMs, retryAfter));
+            } catch (InterruptedException e) {
+                failAll(results, pending, "CANCELLED", true);
+                return results;
+            }
+        }
+    }
+
+    private List<PushResult> sendWithinLimit(List<String> tokens, String title, String body, Duration timeout)
+            throws PushDeliveryException, InterruptedException {
+        inFlight.acquire();
+        try {
+            return pushGateway.sendMulticast(tokens, title, body, timeout);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static void failAll(List<PushResult> results, List<String> tokens, String errorCode, boolean retryable) {
+        for (String token : tokens) {
+            results.add(PushResult.requestFailure(token, errorCode, retryable));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.smartcampus.back.post.notification;
+
+/**
+ * 다중 전송에서 토큰 하나의 전송 결과
+ *
+ * @param token 수신 디바이스의 FCM 토큰
+ * @param errorCode 실패 코드 (성공이면 null, 예: UNREGISTERED, UNAVAILABLE)
+ * @param retryable 다시 보내면 성공할 수 있는 실패인지 여부
+ * @param requestFailure 토큰 자체가 아니라 요청 전체의 실패(전송 오류, 기한 초과, 취소)를 토큰마다 채운 결과인지 여부
+ */
+public record PushResult(String token, String errorCode, boolean retryable, boolean requestFailure) {
+
+    public static PushResult success(String token) {
+        return new PushResult(token, null, false, false);
+    }
+
+    public static PushResult failure(String token, String errorCode, boolean retryable) {
+        return new PushResult(token, errorCode, retryable, false);
+    }
+
+    /**
+     * 요청 전체가 실패하여 토큰별 결과가 없을 때 채우는 결과 (토큰 상태에 대해서는 아무것도 알려주지 않음)
+     */
+    public static PushResult requestFailure(String token, String errorCode, boolean retryable) {
+        return new PushResult(token, errorCode, retryable, true);
+    }
+
+    public boolean successful() {
+        return errorCode == null;
+    }
+}
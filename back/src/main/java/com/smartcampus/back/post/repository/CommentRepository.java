@@ -1,10 +1,19 @@
 package com.smartcampus.back.post.repository;
 
 import com.smartcampus.back.post.entity.Comment;
+import com.smartcampus.back.post.repository.projection.LikeCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글(Comment) 관련 JPA Repository
@@ -21,6 +30,45 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByPostId(Long postId);
 
+    /**
+     * 특정 게시글의 댓글 ID 목록 (삭제 전 좋아요 상태 정리용)
+     *
+     * @param postId 대상 게시글 ID
+     * @return 댓글 ID 리스트
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 댓글 목록의 첫 페이지 조회 (작성순, 동일 시각은 ID 순)
+     *
+     * @param postId 대상 게시글 ID
+     * @param pageable 조회 크기 (정렬 정보는 사용하지 않음)
+     * @return 댓글 슬라이스
+     */
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt, c.id")
+    Slice<Comment> findFirstSlice(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 이후의 댓글 조회 (키셋 페이지네이션)
+     * (post_id, created_at, id) 인덱스를 따라 바로 탐색하므로 페이지 깊이와 무관하게 비용이 일정
+     *
+     * @param postId 대상 게시글 ID
+     * @param createdAt 커서의 작성 시각
+     * @param id 커서의 댓글 ID
+     * @param pageable 조회 크기 (정렬 정보는 사용하지 않음)
+     * @return 댓글 슬라이스
+     */
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findSliceAfter(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     /**
      * 게시글 ID + 댓글 ID로 댓글 조회
      *
@@ -36,4 +84,42 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param postId 게시글 ID
      */
     void deleteByPostId(Long postId);
+
+    /**
+     * 좋아요 수를 원자적으로 증감
+     *
+     * @param commentId 댓글 ID
+     * @param delta 증감값 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+    int updateLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 대댓글 수를 원자적으로 증감
+     *
+     * @param commentId 댓글 ID
+     * @param delta 증감값 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :commentId")
+    int updateReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 좋아요 카운터 값만 조회
+     *
+     * @param commentId 댓글 ID
+     * @return 좋아요 수 (댓글이 없으면 empty)
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Optional<Integer> findLikeCountById(@Param("commentId") Long commentId);
+
+    /**
+     * 여러 댓글의 좋아요 카운터를 한 번에 조회 (존재하는 댓글만 반환)
+     */
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.LikeCount(c.id, c.likeCount) " +
+            "FROM Comment c WHERE c.id IN :ids")
+    List<LikeCount> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,76 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.entity.DeviceToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * DeviceToken 엔티티를 위한 JPA Repository 인터페이스입니다.
+ * 사용자 ID로 전송 대상 토큰을 찾고, 더 이상 유효하지 않은 토큰을 일괄 삭제합니다.
+ */
+@Repository
+public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+
+    /**
+     * 토큰을 등록하거나, 이미 있으면 소유 사용자/플랫폼/마지막 등록 시각을 갱신합니다.
+     * (같은 토큰의 동시 등록도 중복 키 오류 없이 한 행으로 수렴)
+     *
+     * @param userId 사용자 ID
+     * @param token FCM 토큰
+     * @param platform 플랫폼 이름
+     * @return 삽입 1, 갱신 2 (MySQL 기준)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO device_tokens (user_id, token, platform, last_seen) " +
+            "VALUES (:userId, :token, :platform, NOW()) " +
+            "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), platform = VALUES(platform), last_seen = VALUES(last_seen)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("token") String token, @Param("platform") String platform);
+
+    /**
+     * 사용자들의 모든 디바이스를 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 디바이스 토큰 리스트
+     */
+    List<DeviceToken> findByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * 주어진 토큰들을 삭제합니다.
+     *
+     * @param tokens FCM 토큰 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * 주어진 토큰 중 기준 시각 이후로 다시 등록되지 않은 토큰만 삭제합니다.
+     *
+     * @param tokens FCM 토큰 목록
+     * @param before 기준 시각 (이 시각 이후에 등록된 토큰은 남김)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens AND d.lastSeen < :before")
+    int deleteByTokenInAndLastSeenBefore(@Param("tokens") Collection<String> tokens,
+                                         @Param("before") LocalDateTime before);
+
+    /**
+     * 기준 시각 이후로 한 번도 등록되지 않은 토큰을 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.lastSeen < :before")
+    int deleteByLastSeenBefore(@Param("before") LocalDateTime before);
+}
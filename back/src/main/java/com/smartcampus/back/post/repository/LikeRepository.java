@@ -2,51 +2,67 @@ package com.smartcampus.back.post.repository;
 
 import com.smartcampus.back.post.entity.Like;
 import com.smartcampus.back.post.entity.LikeId;
+import com.smartcampus.back.post.enums.LikeTargetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, LikeId> {
 
-    // 게시글 좋아요 여부 확인
-    @Query("SELECT COUNT(l) > 0 FROM Like l WHERE l.id.userId = :userId AND l.post.id = :postId")
-    boolean existsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+    // 좋아요 추가 (아직 좋아요하지 않았을 때만 1행 삽입, 중복 키는 무시)
+    // 대상 행을 읽지 않으므로 likes 행 외에는 잠그지 않음 (대상 존재 확인은 호출하는 쪽에서 잠금 없는 조회로 수행)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (target_type, target_id, user_id, created_at) " +
+            "VALUES (:type, :targetId, :userId, NOW())",
+            nativeQuery = true)
+    int insertIgnore(@Param("type") byte type, @Param("targetId") Long targetId, @Param("userId") Long userId);
 
-    // 게시글 좋아요 수
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.post.id = :postId")
-    long countByPostId(@Param("postId") Long postId);
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.id.targetType = :type AND l.id.targetId = :targetId AND l.id.userId = :userId")
+    int deleteLike(@Param("type") LikeTargetType type, @Param("targetId") Long targetId, @Param("userId") Long userId);
 
-    // 게시글 좋아요 삭제
-    @Query("DELETE FROM Like l WHERE l.id.userId = :userId AND l.post.id = :postId")
-    void deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+    // 대상의 좋아요 전체 삭제 (대댓글 삭제 시)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.id.targetType = :type AND l.id.targetId = :targetId")
+    int deleteByTarget(@Param("type") LikeTargetType type, @Param("targetId") Long targetId);
 
+    // 댓글과 그 대댓글들의 좋아요 삭제 (댓글 삭제 시)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE (l.id.targetType = :commentType AND l.id.targetId = :commentId) " +
+            "OR (l.id.targetType = :replyType AND l.id.targetId IN (SELECT r.id FROM Reply r WHERE r.comment.id = :commentId))")
+    int deleteByComment(@Param("commentId") Long commentId,
+                        @Param("commentType") LikeTargetType commentType,
+                        @Param("replyType") LikeTargetType replyType);
 
-    // 댓글 좋아요 여부 확인
-    @Query("SELECT COUNT(l) > 0 FROM Like l WHERE l.id.userId = :userId AND l.comment.id = :commentId")
-    boolean existsByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    // 게시글과 그 댓글/대댓글들의 좋아요 삭제 (게시글 삭제 시)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE (l.id.targetType = :postType AND l.id.targetId = :postId) " +
+            "OR (l.id.targetType = :commentType AND l.id.targetId IN (SELECT c.id FROM Comment c WHERE c.post.id = :postId)) " +
+            "OR (l.id.targetType = :replyType AND l.id.targetId IN (SELECT r.id FROM Reply r WHERE r.comment.post.id = :postId))")
+    int deleteByPost(@Param("postId") Long postId,
+                     @Param("postType") LikeTargetType postType,
+                     @Param("commentType") LikeTargetType commentType,
+                     @Param("replyType") LikeTargetType replyType);
 
-    // 댓글 좋아요 수
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.comment.id = :commentId")
-    long countByCommentId(@Param("commentId") Long commentId);
+    // 주어진 대상 중 사용자가 좋아요를 누른 대상 ID (좋아요 일괄 조회용, 사용자 인덱스로 커버)
+    @Query("SELECT l.id.targetId FROM Like l " +
+            "WHERE l.id.userId = :userId AND l.id.targetType = :type AND l.id.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId,
+                                  @Param("type") LikeTargetType type,
+                                  @Param("targetIds") Collection<Long> targetIds);
 
-    // 댓글 좋아요 삭제
-    @Query("DELETE FROM Like l WHERE l.id.userId = :userId AND l.comment.id = :commentId")
-    void deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+    // 사용자가 좋아요를 누른 모든 대상 ID (좋아요 비트맵 색인 적재용, 사용자 인덱스로 커버)
+    @Query("SELECT l.id.targetId FROM Like l WHERE l.id.userId = :userId AND l.id.targetType = :type")
+    List<Long> findTargetIdsByUserId(@Param("userId") Long userId, @Param("type") LikeTargetType type);
 
-
-    // 대댓글 좋아요 여부 확인
-    @Query("SELECT COUNT(l) > 0 FROM Like l WHERE l.id.userId = :userId AND l.reply.id = :replyId")
-    boolean existsByUserIdAndReplyId(@Param("userId") Long userId, @Param("replyId") Long replyId);
-
-    // 대댓글 좋아요 수
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.reply.id = :replyId")
-    long countByReplyId(@Param("replyId") Long replyId);
-
-    // 대댓글 좋아요 삭제
-    @Query("DELETE FROM Like l WHERE l.id.userId = :userId AND l.reply.id = :replyId")
-    void deleteByUserIdAndReplyId(@Param("userId") Long userId, @Param("replyId") Long replyId);
+    // 대상에 좋아요를 누른 모든 사용자 ID (좋아요 비트맵 색인 적재용, 기본 키로 커버)
+    @Query("SELECT l.id.userId FROM Like l WHERE l.id.targetType = :type AND l.id.targetId = :targetId")
+    List<Long> findUserIdsByTarget(@Param("type") LikeTargetType type, @Param("targetId") Long targetId);
 }
@@ -0,0 +1,36 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.entity.NotificationOutbox;
+import com.smartcampus.back.post.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * NotificationOutbox 엔티티를 위한 JPA Repository 인터페이스입니다.
+ * 발송 대기 항목의 저장과 처리 완료 항목 정리를 담당합니다. (가져가기/상태 기록은 중계기가 직접 수행)
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 기준 시각 이전에 최종 상태가 기록된 항목을 삭제합니다.
+     *
+     * @param statuses 최종 상태 목록
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status IN :statuses AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("statuses") Collection<OutboxStatus> statuses, @Param("before") LocalDateTime before);
+
+    /**
+     * 상태별 항목 수
+     */
+    long countByStatus(OutboxStatus status);
+}
@@ -1,46 +1,194 @@
 package com.smartcampus.back.post.repository;
 
 import com.smartcampus.back.post.entity.Post;
+import com.smartcampus.back.post.repository.projection.ContentWriter;
+import com.smartcampus.back.post.repository.projection.LikeCount;
+import com.smartcampus.back.post.repository.projection.PostSummary;
+import com.smartcampus.back.post.repository.projection.PostTitle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 게시글(Post) 관련 JPA Repository
  * 게시글의 기본 CRUD, 페이징, 검색, 필터링 기능 제공
  */
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostSearchRepository {
+
+    /**
+     * 목록 조회용 SELECT 절 (본문 CLOB 제외)
+     */
+    String SUMMARY_SELECT = "SELECT new com.smartcampus.back.post.repository.projection.PostSummary(" +
+            "p.id, p.title, p.writerId, p.viewCount, p.createdAt, p.likeCount, p.commentCount) FROM Post p ";
 
     /**
-     * 게시글 제목 또는 내용에 키워드가 포함된 게시글 페이징 조회
+     * 전체 게시글 요약 페이징 조회 (오프셋 방식)
      *
-     * @param keyword 검색 키워드 (제목 또는 본문에 포함)
-     * @param pageable 페이징 정보 (페이지 번호, 크기 등)
-     * @return 검색된 게시글 페이지
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬)
+     * @return 게시글 요약 페이지
      */
-    Page<Post> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
-            String keyword,
-            String keywordAgain,
-            Pageable pageable
-    );
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
 
     /**
-     * 특정 작성자의 게시글 페이징 조회
+     * 특정 작성자의 게시글 요약 페이징 조회
      *
      * @param writerId 작성자 ID
      * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @return 게시글 요약 페이지
      */
-    Page<Post> findByWriterId(Long writerId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.writerId = :writerId",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.writerId = :writerId")
+    Page<PostSummary> findSummariesByWriterId(@Param("writerId") Long writerId, Pageable pageable);
 
     /**
-     * 공개 여부가 true인 게시글만 페이징하여 조회
+     * 공개 여부가 true인 게시글 요약만 페이징하여 조회
      * 공개 여부가 false인 비공개 게시글은 포함되지 않음
      *
      * @param pageable 페이징 정보를 담은 객체 (페이지 번호, 크기 등)
-     * @return 공개 게시글 목록의 페이지 객체
+     * @return 공개 게시글 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.isPublic = true",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isPublic = true")
+    Page<PostSummary> findPublicSummaries(Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 게시글 요약 조회 (순서는 보장하지 않음)
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 게시글 ID 조회 (검색 색인 정합성 확인용)
+     *
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT p.id FROM Post p")
+    List<Long> findAllIds();
+
+    /**
+     * 특정 시각 이후 생성/수정된 게시글 조회 (검색 색인 재기동 시 변경분 반영용)
+     *
+     * @param since 기준 시각
+     * @return 게시글 목록
+     */
+    @Query("SELECT p FROM Post p WHERE p.updatedAt > :since")
+    List<Post> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * ID 이후의 공개 게시글 제목을 ID 순으로 조회 (자동완성 사전 구축용)
+     *
+     * @param afterId 마지막으로 읽은 게시글 ID (처음이면 0)
+     * @param pageable 조회 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 제목 목록
+     */
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.PostTitle(p.id, p.title) FROM Post p " +
+            "WHERE p.isPublic = true AND p.id > :afterId ORDER BY p.id")
+    List<PostTitle> findPublicTitlesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 공개 게시글의 제목 조회 (비공개이거나 없으면 빈 값)
+     *
+     * @param id 게시글 ID
+     * @return 게시글 제목
+     */
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.PostTitle(p.id, p.title) FROM Post p " +
+            "WHERE p.id = :id AND p.isPublic = true")
+    Optional<PostTitle> findPublicTitleById(@Param("id") Long id);
+
+    /**
+     * 커서 기반 목록의 첫 페이지 조회 (최신순, 동일 시각은 ID 역순)
+     * count 쿼리 없이 size + 1 건만 읽어 다음 페이지 존재 여부를 판단
+     *
+     * @param pageable 조회 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findLatestSlice(Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 조회 (키셋 페이지네이션)
+     * (createdAt, id) 인덱스를 따라 바로 탐색하므로 페이지 깊이와 무관하게 비용이 일정
+     *
+     * @param createdAt 커서의 생성 시각
+     * @param id 커서의 게시글 ID
+     * @param pageable 조회 크기 (정렬 정보는 사용하지 않음)
+     * @return 게시글 요약 슬라이스
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSliceAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 좋아요 수를 원자적으로 증감
+     *
+     * @param postId 게시글 ID
+     * @param delta 증감값 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int updateLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수를 원자적으로 증감
+     *
+     * @param postId 게시글 ID
+     * @param delta 증감값 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int updateCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 좋아요 카운터 값만 조회
+     *
+     * @param postId 게시글 ID
+     * @return 좋아요 수 (게시글이 없으면 empty)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 댓글 수 카운터 조회
+     *
+     * @param postId 게시글 ID
+     * @return 댓글 수 (게시글이 없으면 empty)
+     */
+    @Query("SELECT p.commentCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findCommentCountById(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글의 좋아요 카운터를 한 번에 조회 (존재하는 게시글만 반환)
+     */
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.LikeCount(p.id, p.likeCount) " +
+            "FROM Post p WHERE p.id IN :ids")
+    List<LikeCount> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 게시글의 작성자를 한 번에 조회 (존재하는 게시글만 반환)
      */
-    Page<Post> findByIsPublicTrue(Pageable pageable);
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.ContentWriter(p.id, p.writerId) " +
+            "FROM Post p WHERE p.id IN :ids")
+    List<ContentWriter> findWritersByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,23 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.entity.Post;
+import com.smartcampus.back.post.repository.projection.PostSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 동적 조건 게시글 조회용 사용자 정의 Repository
+ * Specification 조건을 그대로 사용하되, 엔티티 대신 본문(CLOB)을 제외한 요약 프로젝션으로 조회합니다.
+ */
+public interface PostSearchRepository {
+
+    /**
+     * 조건에 맞는 게시글 요약을 최신순(작성일, ID 내림차순)으로 조회합니다.
+     *
+     * @param spec 조회 조건 (null이면 전체)
+     * @param limit 최대 조회 수
+     * @return 게시글 요약 목록
+     */
+    List<PostSummary> findSummaries(Specification<Post> spec, int limit);
+}
@@ -0,0 +1,46 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.entity.Post;
+import com.smartcampus.back.post.repository.projection.PostSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * {@link PostSearchRepository} 구현체 (Criteria API)
+ */
+public class PostSearchRepositoryImpl implements PostSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PostSummary> findSummaries(Specification<Post> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PostSummary> query = cb.createQuery(PostSummary.class);
+        Root<Post> root = query.from(Post.class);
+
+        query.select(cb.construct(PostSummary.class,
+                root.get("id"), root.get("title"), root.get("writerId"), root.get("viewCount"),
+                root.get("createdAt"), root.get("likeCount"), root.get("commentCount")));
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        // (필터 컬럼, created_at) 복합 인덱스를 역순으로 읽어 정렬 없이 상위 N건만 가져옴
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.dto.post.PostSearchCondition;
+import com.smartcampus.back.post.entity.Post;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 게시글 검색 조건별 Specification 모음
+ * 값이 있는 조건만 AND로 결합하여, 조건 조합마다 쿼리 메서드를 만들지 않고 하나의 동적 쿼리로 조회합니다.
+ */
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    /**
+     * 검색 조건 DTO에서 키워드를 제외한 필터 조건을 결합합니다.
+     * (키워드는 검색 색인 또는 {@link #keywordContains(String)}로 따로 처리)
+     *
+     * @param condition 검색 조건
+     * @return 결합된 조건 (필터가 없으면 전체 조회)
+     */
+    public static Specification<Post> matching(PostSearchCondition condition) {
+        return Specification.where(writerIdEquals(condition.getWriterId()))
+                .and(isPublicEquals(condition.getIsPublic()))
+                .and(createdOnOrAfter(condition.getStartDate()))
+                .and(createdOnOrBefore(condition.getEndDate()));
+    }
+
+    /**
+     * 제목 또는 본문에 키워드 포함 (대소문자 무시, 검색 색인을 사용할 수 없을 때만 사용)
+     */
+    public static Specification<Post> keywordContains(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + keyword.strip().toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("content")), pattern)
+        );
+    }
+
+    /**
+     * 게시글 ID 목록에 포함
+     */
+    public static Specification<Post> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * 작성자 일치
+     */
+    public static Specification<Post> writerIdEquals(Long writerId) {
+        if (writerId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("writerId"), writerId);
+    }
+
+    /**
+     * 공개 여부 일치
+     */
+    public static Specification<Post> isPublicEquals(Boolean isPublic) {
+        if (isPublic == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("isPublic"), isPublic);
+    }
+
+    /**
+     * 작성일이 시작일 00:00 이후
+     */
+    public static Specification<Post> createdOnOrAfter(LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), startDate.atStartOfDay());
+    }
+
+    /**
+     * 작성일이 종료일 당일까지 (다음 날 00:00 미만, 인덱스 범위 검색이 가능하도록 컬럼에 함수를 씌우지 않음)
+     */
+    public static Specification<Post> createdOnOrBefore(LocalDate endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), endDate.plusDays(1).atStartOfDay());
+    }
+}
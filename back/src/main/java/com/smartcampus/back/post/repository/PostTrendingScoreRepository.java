@@ -0,0 +1,27 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.entity.PostTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수 스냅샷(PostTrendingScore) 관련 JPA Repository
+ */
+@Repository
+public interface PostTrendingScoreRepository extends JpaRepository<PostTrendingScore, Long> {
+
+    /**
+     * 주어진 시각 이전에 저장된 스냅샷 항목을 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PostTrendingScore s WHERE s.savedAt < :before")
+    int deleteBySavedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,10 +1,16 @@
 package com.smartcampus.back.post.repository;
 
 import com.smartcampus.back.post.entity.Reply;
+import com.smartcampus.back.post.repository.projection.LikeCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 대댓글(답글) 관련 JPA Repository
@@ -21,6 +27,39 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      */
     List<Reply> findByCommentId(Long commentId);
 
+    /**
+     * 특정 댓글의 대댓글 ID 목록 (삭제 전 좋아요 상태 정리용)
+     *
+     * @param commentId 대상 댓글 ID
+     * @return 대댓글 ID 리스트
+     */
+    @Query("SELECT r.id FROM Reply r WHERE r.comment.id = :commentId")
+    List<Long> findIdsByCommentId(@Param("commentId") Long commentId);
+
+    /**
+     * 특정 게시글의 모든 댓글에 달린 대댓글 ID 목록 (삭제 전 좋아요 상태 정리용)
+     *
+     * @param postId 대상 게시글 ID
+     * @return 대댓글 ID 리스트
+     */
+    @Query("SELECT r.id FROM Reply r WHERE r.comment.post.id = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 댓글의 앞쪽 대댓글을 댓글마다 최대 limit건씩 한 번에 조회 (댓글 목록 미리보기용)
+     * ROW_NUMBER() 윈도 함수로 댓글별 순번을 매겨, 댓글 수와 무관하게 쿼리 한 번으로 가져옵니다.
+     *
+     * @param commentIds 댓글 ID 목록 (한 페이지 분량)
+     * @param limit 댓글당 최대 대댓글 수
+     * @return 댓글 ID, 작성순으로 정렬된 대댓글 리스트
+     */
+    @Query(value = "SELECT id, content, writer_id, like_count, created_at, updated_at, comment_id FROM (" +
+            "SELECT r.*, ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.created_at, r.id) AS rn " +
+            "FROM comment_replies r WHERE r.comment_id IN (:commentIds)" +
+            ") t WHERE t.rn <= :limit ORDER BY t.comment_id, t.rn",
+            nativeQuery = true)
+    List<Reply> findPreviews(@Param("commentIds") Collection<Long> commentIds, @Param("limit") int limit);
+
     /**
      * 댓글 ID + 대댓글 ID로 해당 대댓글 조회
      *
@@ -36,4 +75,31 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      * @param commentId 댓글 ID
      */
     void deleteByCommentId(Long commentId);
+
+    /**
+     * 좋아요 수를 원자적으로 증감
+     *
+     * @param replyId 대댓글 ID
+     * @param delta 증감값 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Reply r SET r.likeCount = r.likeCount + :delta WHERE r.id = :replyId")
+    int updateLikeCount(@Param("replyId") Long replyId, @Param("delta") int delta);
+
+    /**
+     * 좋아요 카운터 값만 조회
+     *
+     * @param replyId 대댓글 ID
+     * @return 좋아요 수 (대댓글이 없으면 empty)
+     */
+    @Query("SELECT r.likeCount FROM Reply r WHERE r.id = :replyId")
+    Optional<Integer> findLikeCountById(@Param("replyId") Long replyId);
+
+    /**
+     * 여러 대댓글의 좋아요 카운터를 한 번에 조회 (존재하는 대댓글만 반환)
+     */
+    @Query("SELECT new com.smartcampus.back.post.repository.projection.LikeCount(r.id, r.likeCount) " +
+            "FROM Reply r WHERE r.id IN :ids")
+    List<LikeCount> findLikeCountsByIdIn(@Param("ids") Collection<Long> ids);
 }
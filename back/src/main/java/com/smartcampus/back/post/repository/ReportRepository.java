@@ -41,5 +41,5 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      */
     @Modifying
     @Transactional
-    void deleteByPost_PostId(Long postId); // post는 Report의 필드명과 일치해야 함
+    void deleteByPost_Id(Long postId);
 }
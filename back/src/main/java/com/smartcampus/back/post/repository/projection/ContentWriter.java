@@ -0,0 +1,22 @@
+package com.smartcampus.back.post.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글/댓글 ID와 작성자 ID만 담는 프로젝션 (활동 알림 수신자 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class ContentWriter {
+
+    /**
+     * 게시글 또는 댓글 ID
+     */
+    private Long id;
+
+    /**
+     * 작성자 ID
+     */
+    private Long writerId;
+}
@@ -0,0 +1,22 @@
+package com.smartcampus.back.post.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 대상 ID와 좋아요 카운터만 담는 프로젝션 (좋아요 일괄 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class LikeCount {
+
+    /**
+     * 대상(게시글/댓글/대댓글) ID
+     */
+    private Long id;
+
+    /**
+     * 좋아요 수
+     */
+    private int likeCount;
+}
@@ -0,0 +1,50 @@
+package com.smartcampus.back.post.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록/검색용 프로젝션
+ * 본문(content, CLOB) 컬럼을 제외한 요약 컬럼만 SELECT 하기 위해 JPQL 생성자 표현식으로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+
+    /**
+     * 게시글 ID
+     */
+    private Long id;
+
+    /**
+     * 제목
+     */
+    private String title;
+
+    /**
+     * 작성자 ID
+     */
+    private Long writerId;
+
+    /**
+     * 조회수
+     */
+    private int viewCount;
+
+    /**
+     * 작성일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 좋아요 수
+     */
+    private int likeCount;
+
+    /**
+     * 댓글 수
+     */
+    private int commentCount;
+}
@@ -0,0 +1,22 @@
+package com.smartcampus.back.post.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 ID와 제목만 담는 프로젝션 (검색어 자동완성 사전 구축용)
+ */
+@Getter
+@AllArgsConstructor
+public class PostTitle {
+
+    /**
+     * 게시글 ID
+     */
+    private Long id;
+
+    /**
+     * 제목
+     */
+    private String title;
+}
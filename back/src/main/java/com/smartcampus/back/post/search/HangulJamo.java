@@ -0,0 +1,111 @@
+package com.smartcampus.back.post.search;
+
+/**
+ * 한글 음절/자모 처리 유틸리티
+ *
+ * <p>완성형 음절(가~힣)을 호환 자모열로 분해합니다. 겹받침(ㄺ)과 이중모음(ㅘ)도 낱자로 풀어,
+ * 입력 중인 글자("달" → "닭", "고" → "과")가 완성된 글자의 자모 접두어가 되도록 합니다.</p>
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char COMPAT_JAMO_FIRST = 'ㄱ';
+    private static final char COMPAT_JAMO_LAST = 'ㆎ';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 완성형 한글 음절인지 확인합니다.
+     */
+    public static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 한글 호환 자모(ㄱ, ㅏ 등 낱자)인지 확인합니다.
+     */
+    public static boolean isJamo(char ch) {
+        return ch >= COMPAT_JAMO_FIRST && ch <= COMPAT_JAMO_LAST;
+    }
+
+    /**
+     * 한글 음절 또는 자모인지 확인합니다.
+     */
+    public static boolean isHangul(char ch) {
+        return isSyllable(ch) || isJamo(ch);
+    }
+
+    /**
+     * 문자열을 자모열로 분해합니다. 한글이 아닌 문자는 그대로 둡니다.
+     *
+     * @param text 원문
+     * @return 자모 분해 결과 (예: "닭" → "ㄷㅏㄹㄱ")
+     */
+    public static String decompose(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BASE;
+                sb.append(CHOSEONG[offset / (21 * 28)]);
+                sb.append(JUNGSEONG[(offset / 28) % 21]);
+                sb.append(JONGSEONG[offset % 28]);
+            } else if (isJamo(ch)) {
+                sb.append(decomposeJamo(ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 단독으로 입력된 겹자모를 낱자로 분해합니다.
+     */
+    private static String decomposeJamo(char ch) {
+        return switch (ch) {
+            case 'ㄲ' -> "ㄱㄱ";
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄸ' -> "ㄷㄷ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅃ' -> "ㅂㅂ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅆ' -> "ㅅㅅ";
+            case 'ㅉ' -> "ㅈㅈ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(ch);
+        };
+    }
+}
@@ -0,0 +1,338 @@
+package com.smartcampus.back.post.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 게시글 검색용 역색인 (단일 세그먼트)
+ *
+ * <p>게시글마다 증가하는 내부 문서 번호(docNo)를 부여하고, 색인어별 포스팅 리스트에 (docNo, tf)를 기록합니다.
+ * 수정은 "기존 문서 삭제 표시 + 새 문서 번호로 추가"로 처리하며, 삭제 표시된 문서는
+ * {@link #compact()} 시점에 물리적으로 제거됩니다.</p>
+ *
+ * <p>한글 색인어는 자모로 분해한 키로도 정렬 보관하여, 입력 중인 마지막 글자("데이터ㅂ", "닭" 대신 "달")를
+ * {@link #expandPrefix(String, int)}로 실제 색인어 후보들로 확장할 수 있습니다.</p>
+ *
+ * <p>스레드 안전하지 않으므로 호출 측에서 읽기/쓰기 락으로 보호해야 합니다.</p>
+ */
+public class InvertedIndex {
+
+    private static final int MAGIC = 0x50494458; // "PIDX"
+    private static final int FORMAT_VERSION = 3;
+
+    /**
+     * BM25 파라미터
+     */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 자모 키와 색인어를 구분하는 문자 (자모 키가 같은 서로 다른 색인어도 각각 보관)
+     */
+    private static final char JAMO_KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final NavigableMap<String, String> termsByJamo = new TreeMap<>();
+    private final Map<Long, Integer> docNoByPostId = new HashMap<>();
+    private long[] postIds = new long[64];
+    private int[] docLengths = new int[64];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int liveDocCount;
+    private long totalLiveLength;
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이면 기존 문서를 대체합니다.
+     *
+     * @param postId 게시글 ID
+     * @param tokens 토크나이저가 만든 색인어 목록
+     */
+    public void addDocument(long postId, List<String> tokens) {
+        deleteDocument(postId);
+        int docNo = appendDocument(postId, tokens.size());
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : tokens) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        termFreqs.forEach((term, tf) -> postingList(term).add(docNo, tf));
+    }
+
+    /**
+     * 게시글을 색인에서 삭제 표시합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 색인에 있던 게시글이면 true
+     */
+    public boolean deleteDocument(long postId) {
+        Integer docNo = docNoByPostId.remove(postId);
+        if (docNo == null) {
+            return false;
+        }
+        deleted.set(docNo);
+        liveDocCount--;
+        totalLiveLength -= docLengths[docNo];
+        return true;
+    }
+
+    /**
+     * 모든 질의 조건을 만족하는 게시글을 BM25 점수 순으로 조회합니다.
+     * 각 조건은 후보 색인어 중 하나 이상을 포함하면 만족하며, 후보 중 가장 높은 점수를 반영합니다.
+     *
+     * @param clauses 질의 조건 목록 (조건 간 AND, 조건 내 색인어 간 OR)
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 게시글 ID 목록
+     */
+    public List<Long> search(List<List<String>> clauses, int limit) {
+        if (clauses.isEmpty() || liveDocCount == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        List<List<PostingList>> groups = new ArrayList<>();
+        for (List<String> clause : clauses) {
+            List<PostingList> group = new ArrayList<>();
+            for (String term : new LinkedHashSet<>(clause)) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    group.add(list);
+                }
+            }
+            if (group.isEmpty()) {
+                return List.of();
+            }
+            groups.add(group);
+        }
+        // 포스팅 리스트가 가장 짧은 조건부터 교집합을 좁혀 나감
+        groups.sort(Comparator.comparingInt(group -> group.stream().mapToInt(PostingList::size).sum()));
+
+        double avgLength = (double) totalLiveLength / liveDocCount;
+        Map<Integer, Double> scores = null;
+        for (List<PostingList> group : groups) {
+            Map<Integer, Double> next = new HashMap<>();
+            for (PostingList list : group) {
+                double idf = idf(liveDocumentFrequency(list));
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    int docNo = cursor.docNo();
+                    if (deleted.get(docNo) || (scores != null && !scores.containsKey(docNo))) {
+                        continue;
+                    }
+                    double previous = scores == null ? 0 : scores.get(docNo);
+                    double score = previous + bm25(idf, cursor.termFreq(), docLengths[docNo], avgLength);
+                    next.merge(docNo, score, Math::max);
+                }
+            }
+            if (next.isEmpty()) {
+                return List.of();
+            }
+            scores = next;
+        }
+
+        PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(postIds[top.poll().getKey()]);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 자모 접두어로 시작하는 한글 색인어를 찾습니다.
+     *
+     * @param jamoPrefix {@link HangulJamo#decompose(CharSequence)}로 분해한 접두어
+     * @param max 최대 색인어 수
+     * @return 자모 순으로 정렬된 색인어 목록
+     */
+    public List<String> expandPrefix(String jamoPrefix, int max) {
+        List<String> terms = new ArrayList<>();
+        for (String term : termsByJamo.subMap(jamoPrefix, true, jamoPrefix + Character.MAX_VALUE, false).values()) {
+            if (terms.size() >= max) {
+                break;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    /**
+     * 색인된 게시글인지 확인합니다.
+     */
+    public boolean contains(long postId) {
+        return docNoByPostId.containsKey(postId);
+    }
+
+    /**
+     * 색인된(삭제되지 않은) 게시글 ID 목록
+     */
+    public Set<Long> postIds() {
+        return new HashSet<>(docNoByPostId.keySet());
+    }
+
+    /**
+     * 전체 문서 중 삭제 표시된 문서의 비율
+     */
+    public double deletedRatio() {
+        return docCount == 0 ? 0 : (double) (docCount - liveDocCount) / docCount;
+    }
+
+    /**
+     * 삭제 표시된 문서를 제거하고 문서 번호를 다시 매긴 새 색인을 만듭니다.
+     *
+     * @return 압축된 새 색인
+     */
+    public InvertedIndex compact() {
+        InvertedIndex compacted = new InvertedIndex();
+        int[] remap = new int[docCount];
+        for (int docNo = 0; docNo < docCount; docNo++) {
+            if (deleted.get(docNo)) {
+                remap[docNo] = -1;
+                continue;
+            }
+            remap[docNo] = compacted.appendDocument(postIds[docNo], docLengths[docNo]);
+        }
+        postings.forEach((term, list) -> {
+            PostingList target = null;
+            PostingList.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                int newDocNo = remap[cursor.docNo()];
+                if (newDocNo < 0) {
+                    continue;
+                }
+                if (target == null) {
+                    target = compacted.postingList(term);
+                }
+                target.add(newDocNo, cursor.termFreq());
+            }
+        });
+        compacted.postings.values().forEach(PostingList::trim);
+        return compacted;
+    }
+
+    /**
+     * 세그먼트 파일 형식으로 기록합니다. (삭제 표시된 문서는 제외)
+     *
+     * <pre>
+     * int magic, int version, long createdAtMillis
+     * int docCount, { long postId, int length } * docCount
+     * int termCount, { UTF term, PostingList } * termCount  (포스팅은 VByte 압축 형태 그대로)
+     * </pre>
+     *
+     * @param out 출력 스트림
+     * @param createdAtMillis 스냅샷 기준 시각 (재기동 시 이후 변경분만 다시 색인)
+     */
+    public void writeTo(DataOutputStream out, long createdAtMillis) throws IOException {
+        InvertedIndex segment = deletedRatio() > 0 ? compact() : this;
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(createdAtMillis);
+
+        out.writeInt(segment.docCount);
+        for (int docNo = 0; docNo < segment.docCount; docNo++) {
+            out.writeLong(segment.postIds[docNo]);
+            out.writeInt(segment.docLengths[docNo]);
+        }
+
+        out.writeInt(segment.postings.size());
+        for (Map.Entry<String, PostingList> entry : segment.postings.entrySet()) {
+            out.writeUTF(entry.getKey());
+            entry.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 읽어 색인을 복원합니다.
+     *
+     * @param in 입력 스트림
+     * @return 복원된 색인과 스냅샷 기준 시각
+     * @throws IOException 형식이 맞지 않거나 읽기에 실패한 경우
+     */
+    public static Segment readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 파일 형식입니다.");
+        }
+        long createdAtMillis = in.readLong();
+
+        InvertedIndex index = new InvertedIndex();
+        int docCount = in.readInt();
+        for (int i = 0; i < docCount; i++) {
+            index.appendDocument(in.readLong(), in.readInt());
+        }
+
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            String term = in.readUTF();
+            index.postings.put(term, PostingList.readFrom(in));
+            index.registerTerm(term);
+        }
+        return new Segment(index, createdAtMillis);
+    }
+
+    /**
+     * 파일에서 읽어 들인 색인과 그 스냅샷 시각
+     */
+    public record Segment(InvertedIndex index, long createdAtMillis) {
+    }
+
+    private int appendDocument(long postId, int length) {
+        int docNo = docCount++;
+        if (docNo == postIds.length) {
+            postIds = Arrays.copyOf(postIds, docNo * 2);
+            docLengths = Arrays.copyOf(docLengths, docNo * 2);
+        }
+        postIds[docNo] = postId;
+        docLengths[docNo] = length;
+        docNoByPostId.put(postId, docNo);
+        liveDocCount++;
+        totalLiveLength += length;
+        return docNo;
+    }
+
+    private PostingList postingList(String term) {
+        PostingList list = postings.get(term);
+        if (list == null) {
+            list = new PostingList();
+            postings.put(term, list);
+            registerTerm(term);
+        }
+        return list;
+    }
+
+    private void registerTerm(String term) {
+        if (HangulJamo.isHangul(term.charAt(0))) {
+            termsByJamo.put(HangulJamo.decompose(term) + JAMO_KEY_SEPARATOR + term, term);
+        }
+    }
+
+    private int liveDocumentFrequency(PostingList list) {
+        if (deleted.isEmpty()) {
+            return list.size();
+        }
+        int df = 0;
+        PostingList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            if (!deleted.get(cursor.docNo())) {
+                df++;
+            }
+        }
+        return df;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (liveDocCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(double idf, int termFreq, int docLength, double avgLength) {
+        double norm = K1 * (1 - B + B * docLength / avgLength);
+        return idf * termFreq * (K1 + 1) / (termFreq + norm);
+    }
+}
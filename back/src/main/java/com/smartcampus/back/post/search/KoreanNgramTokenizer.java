@@ -0,0 +1,107 @@
+package com.smartcampus.back.post.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 게시글 검색용 토크나이저
+ *
+ * <ul>
+ *     <li>한글 구간: 띄어쓰기만으로는 조사/붙여쓰기 때문에 대부분 놓치므로 음절 n-gram으로 분해
+ *         (색인 시 1·2·3-gram, 질의 시 가능한 가장 긴 n-gram만 사용해 부분 문자열 검색과 같은 효과)</li>
+ *     <li>영문/숫자 구간: 소문자로 통일하고, 색인 시 단어 전체와 함께 길이 2~20의 접두어(edge n-gram)도 색인하여
+ *         "spring"으로 "springboot"를 찾는 접두어 검색을 지원 (질의 시에는 단어 전체를 그대로 사용)</li>
+ *     <li>그 밖의 문자: 구분자로 취급</li>
+ * </ul>
+ *
+ * <p>영문 단어 중간의 부분 문자열("boot"로 "springboot")과, 20자를 넘는 검색어가 더 긴 단어의 접두어인 경우는 찾지 않습니다.</p>
+ */
+@Component
+public class KoreanNgramTokenizer implements Tokenizer {
+
+    private static final int MAX_GRAM = 3;
+
+    /**
+     * 영문/숫자 단어에서 색인할 접두어 길이 범위
+     */
+    private static final int MIN_EDGE_GRAM = 2;
+    private static final int MAX_EDGE_GRAM = 20;
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (run, hangul) -> {
+            if (!hangul) {
+                for (int n = MIN_EDGE_GRAM; n < Math.min(run.length(), MAX_EDGE_GRAM + 1); n++) {
+                    tokens.add(run.substring(0, n));
+                }
+                tokens.add(run);
+                return;
+            }
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= run.length(); i++) {
+                    tokens.add(run.substring(i, i + n));
+                }
+            }
+        });
+        return tokens;
+    }
+
+    @Override
+    public List<String> tokenizeQuery(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (run, hangul) -> {
+            if (!hangul) {
+                tokens.add(run);
+                return;
+            }
+            int n = Math.min(run.length(), MAX_GRAM);
+            for (int i = 0; i + n <= run.length(); i++) {
+                tokens.add(run.substring(i, i + n));
+            }
+        });
+        return tokens;
+    }
+
+    /**
+     * 텍스트를 한글 구간과 영문/숫자 구간으로 나누어 순서대로 전달합니다.
+     */
+    private void forEachRun(String text, RunConsumer consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean runIsHangul = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            boolean hangul = HangulJamo.isHangul(ch);
+            boolean word = !hangul && Character.isLetterOrDigit(ch);
+
+            if (!run.isEmpty() && (!(hangul || word) || hangul != runIsHangul)) {
+                emit(run, runIsHangul, consumer);
+            }
+            if (hangul || word) {
+                run.append(ch);
+                runIsHangul = hangul;
+            }
+        }
+        if (!run.isEmpty()) {
+            emit(run, runIsHangul, consumer);
+        }
+    }
+
+    private void emit(StringBuilder run, boolean hangul, RunConsumer consumer) {
+        String value = hangul ? run.toString() : run.toString().toLowerCase(Locale.ROOT);
+        consumer.accept(value, hangul);
+        run.setLength(0);
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(String run, boolean hangul);
+    }
+}
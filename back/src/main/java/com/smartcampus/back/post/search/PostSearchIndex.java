@@ -0,0 +1,328 @@
+package com.smartcampus.back.post.search;
+
+import com.smartcampus.back.post.entity.Post;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문 검색 색인을 관리하는 컴포넌트
+ *
+ * <ul>
+ *     <li>기동 시 디스크의 세그먼트 파일을 읽고, 스냅샷 이후 변경/삭제된 게시글만 DB에서 다시 반영</li>
+ *     <li>세그먼트가 없거나 손상된 경우 DB 전체를 읽어 새로 구축</li>
+ *     <li>게시글 생성/수정/삭제 이벤트를 커밋 이후 색인에 즉시 반영</li>
+ *     <li>주기마다 마지막 동기화 이후 변경/삭제된 게시글을 DB에서 다시 반영하여, 다른 인스턴스에서 일어난 변경도 따라잡음</li>
+ *     <li>변경이 있으면 주기적으로 세그먼트 파일을 원자적으로 교체 저장</li>
+ * </ul>
+ *
+ * <p>여러 인스턴스로 운영하면 이벤트는 변경이 일어난 인스턴스에만 도착하므로, 다른 인스턴스의 색인은
+ * 최대 {@code post.search.flush-interval-ms}(기본 60초) 늦게 반영됩니다. 삭제 확인에 게시글 ID 전체를 읽으므로
+ * 게시글 수가 아주 많아지면 주기를 늘리거나 외부 검색 엔진으로 옮겨야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String SEGMENT_FILE = "posts.seg";
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    /**
+     * 커밋 직후 이벤트 반영 전에 기준 시각이 찍힌 경우와 노드 간 시계 차이를 고려해 다시 읽는 여유
+     */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final PostRepository postRepository;
+    private final Tokenizer tokenizer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    private InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private volatile boolean loading;
+    private volatile boolean dirty;
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 세그먼트 파일 저장 디렉터리
+     */
+    @Value("${post.search.index-dir:search-index}")
+    private String indexDir;
+
+    /**
+     * 삭제 표시 비율이 이 값을 넘으면 저장 시 색인을 압축
+     */
+    @Value("${post.search.compact-ratio:0.2}")
+    private double compactRatio;
+
+    /**
+     * 입력 중인 마지막 글자를 확장할 최대 색인어 수
+     */
+    @Value("${post.search.prefix-expansion:64}")
+    private int prefixExpansion;
+
+    /**
+     * 색인이 검색 가능한 상태인지 여부 (준비 전에는 호출 측이 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드로 게시글을 검색합니다.
+     * 검색어가 한글로 끝나면 마지막 글자를 입력 중인 것으로 보고 자모 접두어로 확장합니다. ("데이터ㅂ" → "데이터베이스")
+     *
+     * @param keyword 검색어
+     * @param limit 최대 결과 수
+     * @return 관련도 내림차순 게시글 ID 목록
+     */
+    public List<Long> search(String keyword, int limit) {
+        List<String> terms = tokenizer.tokenizeQuery(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String last = terms.get(terms.size() - 1);
+        Set<String> exact = new LinkedHashSet<>(terms.subList(0, terms.size() - 1));
+        exact.remove(last);
+        String trimmed = keyword.strip();
+        boolean typing = HangulJamo.isHangul(trimmed.charAt(trimmed.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            List<List<String>> clauses = new ArrayList<>();
+            exact.forEach(term -> clauses.add(List.of(term)));
+            clauses.add(typing
+                    ? index.expandPrefix(HangulJamo.decompose(last), prefixExpansion)
+                    : List.of(last));
+            return index.search(clauses, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 색인을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loading = true;
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            Optional<InvertedIndex.Segment> segment = readSegment();
+            InvertedIndex loaded = segment.map(InvertedIndex.Segment::index).orElseGet(this::rebuild);
+
+            lock.writeLock().lock();
+            try {
+                index = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // 스냅샷 이후 수정/삭제된 게시글 반영
+            segment.ifPresent(snapshot -> catchUp(LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(snapshot.createdAtMillis()), ZoneId.systemDefault())));
+            lastSyncedAt = startedAt;
+        } finally {
+            loading = false;
+        }
+
+        // 적재 중에 들어온 변경 이벤트를 최신 색인에 다시 반영
+        Set<Long> pending = new HashSet<>(changedDuringLoad);
+        changedDuringLoad.removeAll(pending);
+        pending.forEach(this::reindex);
+
+        ready = true;
+        flush();
+        System.out.println("✅ 게시글 검색 색인 준비 완료");
+    }
+
+    /**
+     * 게시글 변경 이벤트를 색인에 반영합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED, DELETED -> {
+                if (loading) {
+                    changedDuringLoad.add(event.getPostId());
+                }
+                reindex(event.getPostId());
+            }
+            default -> {
+                // 좋아요/댓글/조회는 검색 대상 텍스트를 바꾸지 않음
+            }
+        }
+    }
+
+    /**
+     * 주기마다 다른 인스턴스의 변경을 따라잡은 뒤 세그먼트 파일을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.search.flush-interval-ms:60000}")
+    public void syncAndFlush() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            catchUp(lastSyncedAt);
+            lastSyncedAt = startedAt;
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 검색 색인 동기화 실패: " + e.getMessage());
+        }
+        flush();
+    }
+
+    /**
+     * 변경이 있으면 세그먼트 파일을 저장합니다.
+     * 임시 파일에 기록한 뒤 원자적으로 교체하므로 저장 도중 종료되어도 이전 세그먼트가 유지됩니다.
+     */
+    @PreDestroy
+    public void flush() {
+        if (!ready || !dirty) {
+            return;
+        }
+        dirty = false;
+
+        lock.writeLock().lock();
+        try {
+            if (index.deletedRatio() > compactRatio) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        lock.readLock().lock();
+        try {
+            Path dir = Paths.get(indexDir).toAbsolutePath().normalize();
+            Files.createDirectories(dir);
+            Path temp = dir.resolve(SEGMENT_FILE + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                index.writeTo(out, System.currentTimeMillis());
+            }
+            Files.move(temp, dir.resolve(SEGMENT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            System.err.println("⚠️ 검색 색인 저장 실패: " + e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reindex(Long postId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        List<String> tokens = post == null ? null : tokenize(post);
+
+        lock.writeLock().lock();
+        try {
+            if (tokens == null) {
+                index.deleteDocument(postId);
+            } else {
+                index.addDocument(postId, tokens);
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<InvertedIndex.Segment> readSegment() {
+        Path file = Paths.get(indexDir, SEGMENT_FILE).toAbsolutePath().normalize();
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Optional.of(InvertedIndex.readFrom(in));
+        } catch (IOException e) {
+            System.err.println("⚠️ 검색 색인 파일을 읽을 수 없어 새로 구축합니다: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 기준 시각 이후 수정된 게시글을 다시 색인하고, 그사이 삭제된 게시글을 제거합니다.
+     * DB 조회와 토큰화는 잠금 밖에서 하고, 색인 변경만 쓰기 잠금 안에서 합니다.
+     * 삭제는 DB 조회 전에 색인에 있던 게시글만 대상으로 하므로, 조회 도중 이벤트로 새로 색인된 게시글은 지우지 않습니다.
+     *
+     * @param since 기준 시각 (여유 시간을 두고 그보다 조금 앞부터 다시 읽음)
+     */
+    private void catchUp(LocalDateTime since) {
+        Set<Long> indexed;
+        lock.readLock().lock();
+        try {
+            indexed = index.postIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<Long> existing = new HashSet<>(postRepository.findAllIds());
+        indexed.removeAll(existing);
+        Map<Long, List<String>> updated = new LinkedHashMap<>();
+        for (Post post : postRepository.findUpdatedSince(since.minus(CATCH_UP_MARGIN))) {
+            updated.put(post.getId(), tokenize(post));
+        }
+        if (indexed.isEmpty() && updated.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            indexed.forEach(index::deleteDocument);
+            updated.forEach(index::addDocument);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB의 모든 게시글을 페이지 단위로 읽어 색인을 새로 만듭니다.
+     */
+    private InvertedIndex rebuild() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        int page = 0;
+        Page<Post> posts;
+        do {
+            posts = postRepository.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            posts.forEach(post -> rebuilt.addDocument(post.getId(), tokenize(post)));
+        } while (posts.hasNext());
+        dirty = true;
+        return rebuilt;
+    }
+
+    private List<String> tokenize(Post post) {
+        List<String> tokens = new ArrayList<>(tokenizer.tokenize(post.getTitle()));
+        tokens.addAll(tokenizer.tokenize(post.getContent()));
+        return tokens;
+    }
+}
@@ -0,0 +1,255 @@
+package com.smartcampus.back.post.search;
+
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.projection.PostTitle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색어 자동완성 컴포넌트
+ *
+ * <ul>
+ *     <li>공개 게시글 제목과 결과가 있었던 검색어를 {@link SuggestionTrie}에 보관</li>
+ *     <li>키는 정규화(소문자, 공백 정리) 후 자모로 분해하여, 입력 중인 글자("데이ㅌ")로도 후보를 찾음</li>
+ *     <li>같은 제목의 게시글 수 + 검색 횟수를 가중치로 사용</li>
+ *     <li>게시글 생성/수정/삭제 이벤트를 커밋 이후 바로 반영</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSuggester {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    private SuggestionTrie trie;
+    private Map<String, Candidate> candidates = new HashMap<>();
+    private Map<Long, String> keyByPostId = new HashMap<>();
+    private int queryCount;
+    private volatile boolean loading;
+
+    /**
+     * 노드마다 미리 계산해 둘 후보 수 (한 번에 반환할 수 있는 최대 개수)
+     */
+    @Value("${post.suggest.top-k:10}")
+    private int topK;
+
+    /**
+     * 보관할 최대 검색어 수 (초과 시 새 검색어는 기록하지 않음)
+     */
+    @Value("${post.suggest.max-queries:10000}")
+    private int maxQueries;
+
+    /**
+     * 접두어로 시작하는 제목/검색어를 가중치 순으로 조회합니다.
+     *
+     * @param prefix 사용자가 입력 중인 검색어
+     * @param size 최대 결과 수
+     * @return 자동완성 후보 목록
+     */
+    public List<String> suggest(String prefix, int size) {
+        String key = toKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return trie == null ? List.of() : trie.suggest(key, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 결과가 있었던 검색어를 기록합니다. (자주 검색된 검색어일수록 먼저 노출)
+     *
+     * @param keyword 검색어
+     */
+    public void recordQuery(String keyword) {
+        String text = normalize(keyword);
+        if (text.length() < MIN_QUERY_LENGTH) {
+            return;
+        }
+        String key = HangulJamo.decompose(text);
+
+        lock.writeLock().lock();
+        try {
+            if (trie == null) {
+                return;
+            }
+            Candidate candidate = candidates.get(key);
+            if (candidate == null) {
+                if (queryCount >= maxQueries) {
+                    return;
+                }
+                candidate = new Candidate(text);
+                candidates.put(key, candidate);
+            }
+            if (candidate.queries++ == 0) {
+                queryCount++;
+            }
+            apply(key, candidate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 공개 게시글 제목으로 사전을 구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loading = true;
+        try {
+            SuggestionTrie loadedTrie = new SuggestionTrie(topK);
+            Map<String, Candidate> loadedCandidates = new HashMap<>();
+            Map<Long, String> loadedKeys = new HashMap<>();
+
+            long afterId = 0;
+            List<PostTitle> titles;
+            do {
+                titles = postRepository.findPublicTitlesAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (PostTitle title : titles) {
+                    String text = normalize(title.getTitle());
+                    if (text.isEmpty()) {
+                        continue;
+                    }
+                    String key = HangulJamo.decompose(text);
+                    loadedCandidates.computeIfAbsent(key, k -> new Candidate(text)).titles++;
+                    loadedKeys.put(title.getId(), key);
+                }
+                if (!titles.isEmpty()) {
+                    afterId = titles.get(titles.size() - 1).getId();
+                }
+            } while (titles.size() == LOAD_PAGE_SIZE);
+            loadedCandidates.forEach((key, candidate) -> loadedTrie.put(key, candidate.text, candidate.weight()));
+
+            lock.writeLock().lock();
+            try {
+                trie = loadedTrie;
+                candidates = loadedCandidates;
+                keyByPostId = loadedKeys;
+                queryCount = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loading = false;
+        }
+
+        // 적재 중에 들어온 변경 이벤트를 새 사전에 다시 반영
+        Set<Long> pending = new HashSet<>(changedDuringLoad);
+        changedDuringLoad.removeAll(pending);
+        pending.forEach(this::refreshTitle);
+        System.out.println("✅ 검색어 자동완성 사전 준비 완료 (" + keyByPostId.size() + "건)");
+    }
+
+    /**
+     * 게시글 변경 이벤트를 사전에 반영합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED, DELETED -> {
+                if (loading) {
+                    changedDuringLoad.add(event.getPostId());
+                }
+                refreshTitle(event.getPostId());
+            }
+            default -> {
+                // 제목이나 공개 여부가 바뀌지 않는 이벤트
+            }
+        }
+    }
+
+    /**
+     * 게시글의 현재 제목(공개 게시글만)으로 후보를 교체합니다.
+     */
+    private void refreshTitle(Long postId) {
+        String text = postRepository.findPublicTitleById(postId)
+                .map(title -> normalize(title.getTitle()))
+                .orElse("");
+
+        lock.writeLock().lock();
+        try {
+            if (trie == null) {
+                return;
+            }
+            String oldKey = keyByPostId.remove(postId);
+            if (oldKey != null) {
+                Candidate old = candidates.get(oldKey);
+                old.titles--;
+                apply(oldKey, old);
+            }
+            if (!text.isEmpty()) {
+                String key = HangulJamo.decompose(text);
+                Candidate candidate = candidates.computeIfAbsent(key, k -> new Candidate(text));
+                candidate.titles++;
+                candidate.text = text;
+                keyByPostId.put(postId, key);
+                apply(key, candidate);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(String key, Candidate candidate) {
+        if (candidate.weight() <= 0) {
+            candidates.remove(key);
+            trie.remove(key);
+        } else {
+            trie.put(key, candidate.text, candidate.weight());
+        }
+    }
+
+    /**
+     * 비교용 정규화 (유니코드 NFC, 소문자, 연속 공백을 하나로)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String toKey(String prefix) {
+        return HangulJamo.decompose(normalize(prefix));
+    }
+
+    /**
+     * 자동완성 후보 (같은 키의 제목 수와 검색 횟수)
+     */
+    private static final class Candidate {
+
+        private String text;
+        private int titles;
+        private int queries;
+
+        private Candidate(String text) {
+            this.text = text;
+        }
+
+        private long weight() {
+            return (long) titles + queries;
+        }
+    }
+}
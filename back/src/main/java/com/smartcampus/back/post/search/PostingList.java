@@ -0,0 +1,140 @@
+package com.smartcampus.back.post.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 하나의 색인어에 대한 압축 포스팅 리스트
+ *
+ * <p>문서 번호(docNo)는 항상 증가하는 순서로만 추가되므로, 직전 번호와의 차이(delta)와
+ * 출현 빈도(tf)를 가변 길이 바이트(VByte)로 기록합니다. 대부분의 항목이 2~3바이트로 저장되어
+ * int 배열 두 개(8바이트/항목)에 비해 n-gram 색인의 메모리 사용량이 크게 줄어듭니다.</p>
+ */
+public class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int lastDocNo = -1;
+
+    /**
+     * 문서와 해당 문서 내 출현 빈도를 추가합니다.
+     *
+     * @param docNo 문서 번호 (직전에 추가한 번호보다 커야 함)
+     * @param termFreq 출현 빈도
+     */
+    public void add(int docNo, int termFreq) {
+        if (docNo <= lastDocNo) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로만 추가할 수 있습니다.");
+        }
+        writeVInt(docNo - lastDocNo);
+        writeVInt(termFreq);
+        lastDocNo = docNo;
+        size++;
+    }
+
+    /**
+     * 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 여유 버퍼를 잘라 메모리를 반환합니다. (색인 구축/압축 완료 후 호출)
+     */
+    public void trim() {
+        if (data.length > length) {
+            data = Arrays.copyOf(data, Math.max(length, 1));
+        }
+    }
+
+    /**
+     * 앞에서부터 순서대로 읽는 커서를 생성합니다.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 압축된 형태 그대로 기록합니다.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        out.writeInt(lastDocNo);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    /**
+     * {@link #writeTo(DataOutputStream)}로 기록한 포스팅 리스트를 읽습니다.
+     */
+    public static PostingList readFrom(DataInputStream in) throws IOException {
+        PostingList list = new PostingList();
+        list.size = in.readInt();
+        list.lastDocNo = in.readInt();
+        list.length = in.readInt();
+        list.data = new byte[Math.max(list.length, 1)];
+        in.readFully(list.data, 0, list.length);
+        return list;
+    }
+
+    private void writeVInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 포스팅 리스트 순차 탐색 커서
+     */
+    public final class Cursor {
+
+        private int offset;
+        private int remaining = size;
+        private int docNo = -1;
+        private int termFreq;
+
+        /**
+         * 다음 항목으로 이동합니다.
+         *
+         * @return 항목이 남아 있으면 true
+         */
+        public boolean next() {
+            if (remaining == 0) {
+                return false;
+            }
+            docNo += readVInt();
+            termFreq = readVInt();
+            remaining--;
+            return true;
+        }
+
+        public int docNo() {
+            return docNo;
+        }
+
+        public int termFreq() {
+            return termFreq;
+        }
+
+        private int readVInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
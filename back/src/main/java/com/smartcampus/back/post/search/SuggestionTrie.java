@@ -0,0 +1,228 @@
+package com.smartcampus.back.post.search;
+
+import java.util.*;
+
+/**
+ * 검색어 자동완성용 압축 트라이 (radix trie)
+ *
+ * <p>분기가 없는 경로는 하나의 간선 문자열로 합쳐 노드 수를 줄이고, 각 노드는 하위 트리에서 가중치가 가장 높은
+ * 후보 k개를 미리 보관합니다. 따라서 조회는 접두어 길이만큼 내려간 뒤 해당 노드의 목록을 그대로 반환하며,
+ * 사전 크기와 무관하게 일정한 시간에 끝납니다.</p>
+ *
+ * <p>후보를 추가/변경/삭제하면 루트에서 해당 키까지의 경로에 있는 노드의 상위 k개만 다시 계산합니다.</p>
+ *
+ * <p>스레드 안전하지 않으므로 호출 측에서 읽기/쓰기 락으로 보호해야 합니다.</p>
+ */
+public class SuggestionTrie {
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator
+            .comparingLong(Entry::weight).reversed()
+            .thenComparing(Entry::key);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * @param topK 노드마다 보관할 후보 수
+     */
+    public SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 후보를 추가하거나 가중치/표시 문자열을 갱신합니다. 가중치가 0 이하이면 삭제합니다.
+     *
+     * @param key 정규화된 검색 키 (빈 문자열 불가)
+     * @param text 화면에 표시할 문자열
+     * @param weight 가중치 (클수록 먼저 노출)
+     */
+    public void put(String key, String text, long weight) {
+        if (weight <= 0) {
+            remove(key);
+            return;
+        }
+
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int offset = 0;
+        path.push(node);
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                child = new Node(key.substring(offset));
+                node.children.put(key.charAt(offset), child);
+                node = child;
+                path.push(node);
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            path.push(node);
+            offset += common;
+        }
+
+        if (node.entry == null) {
+            size++;
+        }
+        node.entry = new Entry(key, text, weight);
+        refresh(path);
+    }
+
+    /**
+     * 후보를 삭제합니다.
+     *
+     * @param key 정규화된 검색 키
+     * @return 삭제된 경우 true
+     */
+    public boolean remove(String key) {
+        Deque<Node> path = findPath(key);
+        if (path == null || path.peek().entry == null) {
+            return false;
+        }
+        path.peek().entry = null;
+        size--;
+        prune(path);
+        refresh(path);
+        return true;
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 가중치 순으로 조회합니다.
+     *
+     * @param prefix 정규화된 접두어
+     * @param limit 최대 결과 수 (노드 보관 수 이내)
+     * @return 표시 문자열 목록
+     */
+    public List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(offset));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, offset);
+            if (common < child.label.length() && offset + common < prefix.length()) {
+                return List.of();
+            }
+            node = child;
+            offset += common;
+        }
+
+        List<String> result = new ArrayList<>(Math.min(limit, node.top.length));
+        for (int i = 0; i < node.top.length && i < limit; i++) {
+            result.add(node.top[i].text());
+        }
+        return result;
+    }
+
+    /**
+     * 등록된 후보 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 키와 정확히 일치하는 노드까지의 경로 (리프가 맨 위) - 없으면 null
+     */
+    private Deque<Node> findPath(String key) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int offset = 0;
+        path.push(node);
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return null;
+            }
+            node = child;
+            path.push(node);
+            offset += child.label.length();
+        }
+        return path;
+    }
+
+    /**
+     * 간선을 공통 접두어 위치에서 둘로 나눕니다.
+     */
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = child.top;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * 후보가 사라진 노드를 정리합니다. (자식이 없으면 제거, 자식이 하나면 간선 병합)
+     */
+    private static void prune(Deque<Node> path) {
+        Iterator<Node> it = path.iterator();
+        Node node = it.next();
+        while (it.hasNext()) {
+            Node parent = it.next();
+            if (node.entry != null) {
+                return;
+            }
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+                node = parent;
+                continue;
+            }
+            if (node.children.size() == 1) {
+                Node only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 경로의 노드(리프 → 루트 순)마다 상위 k개를 다시 계산합니다.
+     * 병합/제거로 경로에서 빠진 노드는 다시 계산해도 결과에 영향이 없습니다.
+     */
+    private void refresh(Deque<Node> path) {
+        for (Node node : path) {
+            List<Entry> candidates = new ArrayList<>();
+            if (node.entry != null) {
+                candidates.add(node.entry);
+            }
+            for (Node child : node.children.values()) {
+                Collections.addAll(candidates, child.top);
+            }
+            candidates.sort(BY_WEIGHT);
+            node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(new Entry[0]);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry entry;
+        private Entry[] top = new Entry[0];
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Entry(String key, String text, long weight) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.smartcampus.back.post.search;
+
+import java.util.List;
+
+/**
+ * 검색 색인/질의 공용 토크나이저
+ * 색인할 때와 검색할 때 호환되는 규칙으로 텍스트를 색인어(term) 목록으로 변환합니다.
+ */
+public interface Tokenizer {
+
+    /**
+     * 색인할 텍스트를 색인어 목록으로 변환합니다. (중복 포함)
+     *
+     * @param text 원문 텍스트 (null 허용)
+     * @return 색인어 목록
+     */
+    List<String> tokenize(String text);
+
+    /**
+     * 검색어를 질의어 목록으로 변환합니다.
+     * 마지막 질의어는 항상 검색어의 마지막 글자로 끝나야 합니다. (입력 중 접두어 확장에 사용)
+     *
+     * @param text 검색어 (null 허용)
+     * @return 질의어 목록 (등장 순서 유지)
+     */
+    default List<String> tokenizeQuery(String text) {
+        return tokenize(text);
+    }
+}
@@ -2,23 +2,44 @@ package com.smartcampus.back.post.service;
 
 import com.smartcampus.back.post.dto.comment.CommentCreateRequest;
 import com.smartcampus.back.post.dto.comment.CommentResponse;
+import com.smartcampus.back.post.dto.comment.CommentSliceResponse;
+import com.smartcampus.back.post.dto.comment.CommentThreadResponse;
 import com.smartcampus.back.post.dto.comment.CommentUpdateRequest;
+import com.smartcampus.back.post.dto.reply.ReplyResponse;
 import com.smartcampus.back.post.entity.Comment;
 import com.smartcampus.back.post.entity.Post;
+import com.smartcampus.back.post.entity.Reply;
+import com.smartcampus.back.post.enums.ActivityType;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.enums.PostChangeType;
+import com.smartcampus.back.post.event.ActivityEvent;
+import com.smartcampus.back.post.event.LikeTargetsDeletedEvent;
+import com.smartcampus.back.post.event.PostChangedEvent;
 import com.smartcampus.back.post.exception.CommentNotFoundException;
 import com.smartcampus.back.post.exception.PostNotFoundException;
 import com.smartcampus.back.post.exception.UnauthorizedAccessException;
 import com.smartcampus.back.post.repository.CommentRepository;
+import com.smartcampus.back.post.repository.LikeRepository;
 import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.ReplyRepository;
+import com.smartcampus.back.post.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 댓글(Comment) 관련 서비스 계층
- * 댓글 작성, 수정, 삭제, 작성자 검증 등을 포함한 비즈니스 로직 처리
+ * 댓글 목록 조회, 작성, 수정, 삭제, 작성자 검증 등을 포함한 비즈니스 로직 처리
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +48,63 @@ public class CommentService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final LikeRepository likeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 댓글 목록에서 댓글마다 함께 내려주는 대댓글 수
+     */
+    @Value("${post.comments.reply-preview-size:3}")
+    private int replyPreviewSize;
+
+    /**
+     * 게시글 댓글 목록 조회 (커서 기반, 작성순)
+     * 댓글 한 페이지와 그 댓글들의 앞쪽 대댓글을 각각 쿼리 한 번으로 읽습니다.
+     * 전체 대댓글 수는 비정규화 카운터를 사용하므로 별도 집계 쿼리가 없습니다.
+     *
+     * @param postId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public CommentSliceResponse getComments(Long postId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Comment> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = commentRepository.findFirstSlice(postId, pageable);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            slice = commentRepository.findSliceAfter(postId, after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        Map<Long, List<Reply>> repliesByComment = loadReplyPreviews(slice.getContent());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Comment last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CommentSliceResponse.builder()
+                .comments(slice.stream()
+                        .map(comment -> CommentThreadResponse.builder()
+                                .commentId(comment.getId())
+                                .content(comment.getContent())
+                                .writerId(comment.getWriterId())
+                                .createdAt(comment.getCreatedAt())
+                                .updatedAt(comment.getUpdatedAt())
+                                .likeCount(comment.getLikeCount())
+                                .replyCount(comment.getReplyCount())
+                                .replies(repliesByComment.getOrDefault(comment.getId(), List.of()).stream()
+                                        .map(this::toReplyResponse)
+                                        .collect(Collectors.toList()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
 
     /**
      * 게시글에 새로운 댓글 작성
@@ -42,6 +120,9 @@ public class CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        postRepository.updateCommentCount(postId, 1);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.COMMENTED));
+        eventPublisher.publishEvent(new ActivityEvent(ActivityType.POST_COMMENTED, postId, post.getWriterId(), saved.getWriterId()));
 
         return CommentResponse.builder()
                 .commentId(saved.getId())
@@ -90,6 +171,36 @@ public class CommentService {
             throw new UnauthorizedAccessException("댓글 삭제 권한이 없습니다.");
         }
 
+        List<Long> replyIds = replyRepository.findIdsByCommentId(commentId);
+        likeRepository.deleteByComment(commentId, LikeTargetType.COMMENT, LikeTargetType.REPLY);
         commentRepository.delete(comment);
+        postRepository.updateCommentCount(postId, -1);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.UNCOMMENTED));
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.COMMENT, List.of(commentId)));
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.REPLY, replyIds));
+    }
+
+    /**
+     * 댓글들의 앞쪽 대댓글을 댓글 ID별로 묶어 조회 (윈도 함수 쿼리 1회)
+     */
+    private Map<Long, List<Reply>> loadReplyPreviews(List<Comment> comments) {
+        if (comments.isEmpty() || replyPreviewSize <= 0) {
+            return Map.of();
+        }
+        List<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toList());
+        return replyRepository.findPreviews(commentIds, replyPreviewSize).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getComment().getId()));
+    }
+
+    private ReplyResponse toReplyResponse(Reply reply) {
+        return ReplyResponse.builder()
+                .replyId(reply.getId())
+                .content(reply.getContent())
+                .writerId(reply.getWriterId())
+                .createdAt(reply.getCreatedAt())
+                .updatedAt(reply.getUpdatedAt())
+                .likeCount(reply.getLikeCount())
+                .chatEntryUrl("/api/chat/start?userId=" + reply.getWriterId())
+                .build();
     }
 }
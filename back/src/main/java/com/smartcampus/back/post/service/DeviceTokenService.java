@@ -0,0 +1,67 @@
+package com.smartcampus.back.post.service;
+
+import com.smartcampus.back.post.enums.DevicePlatform;
+import com.smartcampus.back.post.repository.DeviceTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 디바이스 토큰 등록/해제 및 사용자 ID로 전송 대상 토큰을 찾는 서비스 클래스입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DeviceTokenService {
+
+    /**
+     * 토큰 조회 IN 절 하나에 담을 최대 사용자 수
+     */
+    private static final int USER_ID_CHUNK = 1000;
+
+    private final DeviceTokenRepository deviceTokenRepository;
+
+    /**
+     * 디바이스 토큰을 등록합니다. 앱 실행/토큰 갱신 시마다 호출되어 마지막 등록 시각을 갱신합니다.
+     *
+     * @param userId   사용자 ID
+     * @param token    FCM 토큰
+     * @param platform 디바이스 플랫폼
+     */
+    public void register(Long userId, String token, DevicePlatform platform) {
+        deviceTokenRepository.upsert(userId, token, platform.name());
+    }
+
+    /**
+     * 디바이스 토큰을 해제합니다. (로그아웃 시)
+     *
+     * @param token FCM 토큰
+     */
+    public void unregister(String token) {
+        deviceTokenRepository.deleteByTokenIn(List.of(token));
+    }
+
+    /**
+     * 사용자별 디바이스 토큰을 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → FCM 토큰 리스트 (디바이스가 없는 사용자는 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findTokensByUser(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, List<String>> tokens = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += USER_ID_CHUNK) {
+            deviceTokenRepository.findByUserIdIn(ids.subList(from, Math.min(from + USER_ID_CHUNK, ids.size())))
+                    .forEach(device -> tokens.computeIfAbsent(device.getUserId(), id -> new ArrayList<>()).add(device.getToken()));
+        }
+        return tokens;
+    }
+}
@@ -1,26 +1,51 @@
 package com.smartcampus.back.post.service;
 
+import com.smartcampus.back.post.dto.like.LikeBatchStatusRequest;
+import com.smartcampus.back.post.dto.like.LikeBatchStatusResponse;
 import com.smartcampus.back.post.dto.like.LikeResponse;
-import com.smartcampus.back.post.entity.*;
-import com.smartcampus.back.post.exception.*;
-import com.smartcampus.back.post.repository.*;
+import com.smartcampus.back.post.dto.like.LikeStatusResponse;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.enums.PostChangeType;
+import com.smartcampus.back.post.event.LikeToggledEvent;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.exception.CommentNotFoundException;
+import com.smartcampus.back.post.exception.InvalidLikeRequestException;
+import com.smartcampus.back.post.exception.PostNotFoundException;
+import com.smartcampus.back.post.exception.ReplyNotFoundException;
+import com.smartcampus.back.post.like.LikeStore;
+import com.smartcampus.back.post.like.LikeToggleResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * 게시글, 댓글, 대댓글에 대한 좋아요 기능을 처리하는 서비스 클래스입니다.
  * 각 대상에 대해 좋아요 토글, 개수 조회, 좋아요 여부 확인 기능을 제공합니다.
+ * 상태 저장과 토글 방식은 {@link LikeStore} 구현(DB 또는 Redis)에 맡깁니다.
+ * 트랜잭션 경계도 저장소가 정하므로, Redis 저장소의 토글은 DB 연결을 사용하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class LikeService {
 
-    private final LikeRepository likeRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final ReplyRepository replyRepository;
+    private final LikeStore likeStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일괄 조회에서 유형별로 받을 수 있는 최대 대상 수
+     */
+    @Value("${post.like.batch.max-ids:100}")
+    private int maxBatchIds;
 
     /**
      * 게시글 좋아요 토글 처리
@@ -29,23 +54,14 @@ public class LikeService {
      * @param userId 사용자 ID
      * @return LikeResponse (상태 메시지, 총 개수, 좋아요 여부)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LikeResponse togglePostLike(Long postId, Long userId) {
-        LikeId likeId = new LikeId(userId, postId, null, null);
-
-        if (likeRepository.existsById(likeId)) {
-            likeRepository.deleteById(likeId);
-            return buildLikeResponse(false, likeRepository.countByPostId(postId), "게시글 좋아요가 취소되었습니다.");
-        } else {
-            Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
-
-            Like like = Like.builder()
-                    .id(likeId)
-                    .post(post)
-                    .build();
-            likeRepository.save(like);
-            return buildLikeResponse(true, likeRepository.countByPostId(postId), "게시글 좋아요가 추가되었습니다.");
-        }
+        LikeToggleResult result = likeStore.toggle(LikeTargetType.POST, postId, userId)
+                .orElseThrow(() -> new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
+        eventPublisher.publishEvent(new LikeToggledEvent(LikeTargetType.POST, postId, userId, result.liked()));
+        eventPublisher.publishEvent(new PostChangedEvent(postId, result.liked() ? PostChangeType.LIKED : PostChangeType.UNLIKED));
+        return buildLikeResponse(result,
+                result.liked() ? "게시글 좋아요가 추가되었습니다." : "게시글 좋아요가 취소되었습니다.");
     }
 
     /**
@@ -55,23 +71,13 @@ public class LikeService {
      * @param userId 사용자 ID
      * @return LikeResponse
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LikeResponse toggleCommentLike(Long commentId, Long userId) {
-        LikeId likeId = new LikeId(userId, null, commentId, null);
-
-        if (likeRepository.existsById(likeId)) {
-            likeRepository.deleteById(likeId);
-            return buildLikeResponse(false, likeRepository.countByCommentId(commentId), "댓글 좋아요가 취소되었습니다.");
-        } else {
-            Comment comment = commentRepository.findById(commentId)
-                    .orElseThrow(() -> new CommentNotFoundException("해당 댓글이 존재하지 않습니다."));
-
-            Like like = Like.builder()
-                    .id(likeId)
-                    .comment(comment)
-                    .build();
-            likeRepository.save(like);
-            return buildLikeResponse(true, likeRepository.countByCommentId(commentId), "댓글 좋아요가 추가되었습니다.");
-        }
+        LikeToggleResult result = likeStore.toggle(LikeTargetType.COMMENT, commentId, userId)
+                .orElseThrow(() -> new CommentNotFoundException("해당 댓글이 존재하지 않습니다."));
+        eventPublisher.publishEvent(new LikeToggledEvent(LikeTargetType.COMMENT, commentId, userId, result.liked()));
+        return buildLikeResponse(result,
+                result.liked() ? "댓글 좋아요가 추가되었습니다." : "댓글 좋아요가 취소되었습니다.");
     }
 
     /**
@@ -81,74 +87,110 @@ public class LikeService {
      * @param userId 사용자 ID
      * @return LikeResponse
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LikeResponse toggleReplyLike(Long replyId, Long userId) {
-        LikeId likeId = new LikeId(userId, null, null, replyId);
-
-        if (likeRepository.existsById(likeId)) {
-            likeRepository.deleteById(likeId);
-            return buildLikeResponse(false, likeRepository.countByReplyId(replyId), "대댓글 좋아요가 취소되었습니다.");
-        } else {
-            Reply reply = replyRepository.findById(replyId)
-                    .orElseThrow(() -> new ReplyNotFoundException("해당 대댓글이 존재하지 않습니다."));
-
-            Like like = Like.builder()
-                    .id(likeId)
-                    .reply(reply)
-                    .build();
-            likeRepository.save(like);
-            return buildLikeResponse(true, likeRepository.countByReplyId(replyId), "대댓글 좋아요가 추가되었습니다.");
-        }
+        LikeToggleResult result = likeStore.toggle(LikeTargetType.REPLY, replyId, userId)
+                .orElseThrow(() -> new ReplyNotFoundException("해당 대댓글이 존재하지 않습니다."));
+        eventPublisher.publishEvent(new LikeToggledEvent(LikeTargetType.REPLY, replyId, userId, result.liked()));
+        return buildLikeResponse(result,
+                result.liked() ? "대댓글 좋아요가 추가되었습니다." : "대댓글 좋아요가 취소되었습니다.");
     }
 
     /**
      * 게시글 좋아요 여부 확인
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isPostLiked(Long postId, Long userId) {
-        return likeRepository.existsById(new LikeId(userId, postId, null, null));
+        return likeStore.isLiked(LikeTargetType.POST, postId, userId);
     }
 
     /**
      * 댓글 좋아요 여부 확인
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isCommentLiked(Long commentId, Long userId) {
-        return likeRepository.existsById(new LikeId(userId, null, commentId, null));
+        return likeStore.isLiked(LikeTargetType.COMMENT, commentId, userId);
     }
 
     /**
      * 대댓글 좋아요 여부 확인
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isReplyLiked(Long replyId, Long userId) {
-        return likeRepository.existsById(new LikeId(userId, null, null, replyId));
+        return likeStore.isLiked(LikeTargetType.REPLY, replyId, userId);
     }
 
     /**
      * 게시글 좋아요 수 조회
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getLikeCountByPost(Long postId) {
-        return likeRepository.countByPostId(postId);
+        return likeStore.count(LikeTargetType.POST, postId);
     }
 
     /**
      * 댓글 좋아요 수 조회
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getLikeCountByComment(Long commentId) {
-        return likeRepository.countByCommentId(commentId);
+        return likeStore.count(LikeTargetType.COMMENT, commentId);
     }
 
     /**
      * 대댓글 좋아요 수 조회
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long getLikeCountByReply(Long replyId) {
-        return likeRepository.countByReplyId(replyId);
+        return likeStore.count(LikeTargetType.REPLY, replyId);
+    }
+
+    /**
+     * 좋아요 상태 일괄 조회
+     * 대상 유형마다 카운터 조회와 좋아요 여부 조회를 IN 목록 쿼리 한 번씩으로 처리합니다.
+     *
+     * @param request 사용자 ID와 게시글/댓글/대댓글 ID 목록
+     * @return 대상별 좋아요 여부와 개수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LikeBatchStatusResponse getBatchStatus(LikeBatchStatusRequest request) {
+        return LikeBatchStatusResponse.builder()
+                .posts(getStatuses(LikeTargetType.POST, request.getPostIds(), request.getUserId()))
+                .comments(getStatuses(LikeTargetType.COMMENT, request.getCommentIds(), request.getUserId()))
+                .replies(getStatuses(LikeTargetType.REPLY, request.getReplyIds(), request.getUserId()))
+                .build();
+    }
+
+    private List<LikeStatusResponse> getStatuses(LikeTargetType type, List<Long> targetIds, Long userId) {
+        if (targetIds == null || targetIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = targetIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.size() > maxBatchIds) {
+            throw new InvalidLikeRequestException("한 번에 조회할 수 있는 대상은 유형별 최대 " + maxBatchIds + "개입니다.");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> counts = likeStore.counts(type, ids);
+        Set<Long> liked = userId == null ? Set.of() : likeStore.likedTargets(type, ids, userId);
+        return ids.stream()
+                .filter(counts::containsKey)
+                .map(id -> LikeStatusResponse.builder()
+                        .targetId(id)
+                        .liked(liked.contains(id))
+                        .likeCount(counts.get(id))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /**
      * LikeResponse 공통 생성 메서드
      */
-    private LikeResponse buildLikeResponse(boolean liked, long count, String message) {
+    private LikeResponse buildLikeResponse(LikeToggleResult result, String message) {
         return LikeResponse.builder()
-                .liked(liked)
-                .totalLikes((int) count)
+                .liked(result.liked())
+                .totalLikes((int) result.count())
                 .message(message)
                 .build();
     }
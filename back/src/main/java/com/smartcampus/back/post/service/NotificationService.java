@@ -1,15 +1,28 @@
 package com.smartcampus.back.post.service;
 
-import com.google.firebase.messaging.*;
 import com.smartcampus.back.post.dto.notification.NotificationResponse;
 import com.smartcampus.back.post.entity.Notification;
+import com.smartcampus.back.post.entity.NotificationOutbox;
+import com.smartcampus.back.post.enums.OutboxStatus;
 import com.smartcampus.back.post.exception.NotificationNotFoundException;
+import com.smartcampus.back.post.exception.NotificationQueueFullException;
+import com.smartcampus.back.post.notification.DeadTokenPruner;
+import com.smartcampus.back.post.notification.MulticastResult;
+import com.smartcampus.back.post.notification.NotificationOutboxRelay;
+import com.smartcampus.back.post.notification.PushDispatcher;
+import com.smartcampus.back.post.notification.PushMessage;
+import com.smartcampus.back.post.notification.PushMulticaster;
+import com.smartcampus.back.post.repository.NotificationOutboxRepository;
 import com.smartcampus.back.post.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -21,64 +34,72 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final PushDispatcher pushDispatcher;
+    private final PushMulticaster pushMulticaster;
+    private final NotificationOutboxRepository outboxRepository;
+    private final DeadTokenPruner deadTokenPruner;
 
     /**
-     * FCM을 통해 단일 사용자에게 푸시 알림을 전송합니다.
+     * FCM을 통해 단일 사용자에게 보낼 푸시 알림을 접수합니다.
+     * 실제 전송은 {@link PushDispatcher}가 비동기로 수행하며, 일시적인 실패는 재시도합니다.
      *
      * @param targetToken 수신자 디바이스의 FCM 토큰
      * @param title       알림 제목
      * @param body        알림 내용
-     * @throws RuntimeException 알림 전송 중 문제가 발생할 경우 예외 발생
+     * @throws NotificationQueueFullException 발송 대기열이 가득 찬 경우
      */
     public void sendNotificationToToken(String targetToken, String title, String body) {
-        com.google.firebase.messaging.Notification notification = com.google.firebase.messaging.Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
-
-        Message message = Message.builder()
-                .setToken(targetToken)
-                .setNotification(notification)
-                .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
-                .build();
-
-        try {
-            FirebaseMessaging.getInstance().send(message);
-            System.out.println("✅ FCM 단일 알림 전송 성공");
-        } catch (FirebaseMessagingException e) {
-            System.err.println("❌ FCM 단일 알림 전송 실패: " + e.getMessage());
-            throw new RuntimeException("FCM 단일 알림 전송 중 오류 발생", e);
-        }
+        pushDispatcher.dispatch(new PushMessage(targetToken, title, body));
     }
 
     /**
-     * FCM을 통해 최대 500명의 사용자에게 푸시 알림을 전송합니다.
+     * FCM을 통해 여러 사용자에게 푸시 알림을 전송합니다.
+     * 대상 수에 제한이 없으며, {@link PushMulticaster}가 500개씩 나누어 동시에 전송합니다.
+     * FCM이 죽은 토큰으로 응답한 토큰은 {@link DeadTokenPruner}가 등록부에서 정리합니다.
      *
      * @param tokens 수신자의 FCM 토큰 리스트
      * @param title  알림 제목
      * @param body   알림 내용
-     * @throws RuntimeException 알림 전송 중 문제가 발생할 경우 예외 발생
+     * @return 모든 전송이 끝나면 완료되는 토큰별 결과 집계
      */
-    public void sendNotificationToMultipleTokens(List<String> tokens, String title, String body) {
-        com.google.firebase.messaging.Notification notification = com.google.firebase.messaging.Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
+    public CompletableFuture<MulticastResult> sendNotificationToMultipleTokens(List<String> tokens, String title, String body) {
+        return pushMulticaster.send(tokens, title, body).whenComplete((result, e) -> {
+            if (result != null) {
+                deadTokenPruner.reportAll(result);
+                System.out.printf("✅ FCM 다중 알림 전송 완료 (대상 %d건 / 성공 %d건 / 실패 %d건)%n",
+                        result.tokenCount(), result.successCount(), result.failureCount());
+            } else {
+                System.err.println("❌ FCM 다중 알림 전송 실패: " + e.getMessage());
+            }
+        });
+    }
 
-        MulticastMessage message = MulticastMessage.builder()
-                .addAllTokens(tokens)
-                .setNotification(notification)
-                .putData("click_action", "FLUTTER_NOTIFICATION_CLICK")
-                .build();
+    /**
+     * 사용자에게 알림을 남기고 등록된 모든 디바이스로 발송하도록 접수합니다.
+     * 알림 로그와 발송 대기(outbox) 항목을 한 트랜잭션으로 저장하며, 발송은 커밋 후 {@link NotificationOutboxRelay}가 수행합니다.
+     *
+     * @param userId 수신자 ID
+     * @param title  알림 제목
+     * @param body   알림 내용
+     */
+    @Transactional
+    public void sendNotificationToUser(Long userId, String title, String body) {
+        saveWithOutbox(List.of(userId), title, body);
+    }
 
-        try {
-            BatchResponse response = FirebaseMessaging.getInstance().sendMulticast(message);
-            System.out.printf("✅ FCM 다중 알림 전송 성공 (성공 %d건 / 실패 %d건)%n",
-                    response.getSuccessCount(), response.getFailureCount());
-        } catch (FirebaseMessagingException e) {
-            System.err.println("❌ FCM 다중 알림 전송 실패: " + e.getMessage());
-            throw new RuntimeException("FCM 다중 알림 전송 중 오류 발생", e);
-        }
+    /**
+     * 여러 사용자에게 알림을 남기고 등록된 모든 디바이스로 발송하도록 접수합니다.
+     * 알림 로그와 발송 대기(outbox) 항목을 한 트랜잭션으로 저장하며, 발송은 커밋 후 {@link NotificationOutboxRelay}가
+     * 같은 내용끼리 묶어 다중 전송합니다. 정리된(죽은) 토큰은 등록부에서 빠지므로 살아 있는 디바이스에만 전송됩니다.
+     *
+     * @param userIds 수신자 ID 리스트
+     * @param title   알림 제목
+     * @param body    알림 내용
+     * @return 접수한 수신자 수 (중복 제외)
+     */
+    @Transactional
+    public int sendNotificationToUsers(List<Long> userIds, String title, String body) {
+        return saveWithOutbox(userIds, title, body);
     }
 
     /**
@@ -99,6 +120,32 @@ public class NotificationService {
         notificationRepository.save(log);
     }
 
+    private int saveWithOutbox(Collection<Long> userIds, String title, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> logs = notificationRepository.saveAll(new LinkedHashSet<>(userIds).stream()
+                .map(userId -> Notification.builder()
+                        .userId(userId)
+                        .title(title)
+                        .body(body)
+                        .read(false)
+                        .createdAt(now)
+                        .build())
+                .collect(Collectors.toList()));
+        outboxRepository.saveAll(logs.stream()
+                .map(log -> NotificationOutbox.builder()
+                        .notificationId(log.getId())
+                        .userId(log.getUserId())
+                        .title(title)
+                        .body(body)
+                        .status(OutboxStatus.PENDING)
+                        .attempts(0)
+                        .availableAt(now)
+                        .createdAt(now)
+                        .build())
+                .collect(Collectors.toList()));
+        return logs.size();
+    }
+
     /**
      * 특정 사용자의 알림 목록을 최신순으로 조회합니다.
      *
@@ -0,0 +1,150 @@
+package com.smartcampus.back.post.service;
+
+import com.smartcampus.back.post.dto.comment.CommentThreadResponse;
+import com.smartcampus.back.post.dto.post.PostBundleResponse;
+import com.smartcampus.back.post.dto.post.PostDetailResponse;
+import com.smartcampus.back.post.dto.reply.ReplyResponse;
+import com.smartcampus.back.post.entity.Comment;
+import com.smartcampus.back.post.entity.Reply;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.like.LikeStore;
+import com.smartcampus.back.post.repository.CommentRepository;
+import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.ReplyRepository;
+import com.smartcampus.back.post.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 화면 묶음 조회 서비스
+ *
+ * <p>게시글 상세, 좋아요 수/여부, 댓글 첫 페이지와 대댓글 미리보기를 한 응답으로 만듭니다.
+ * 댓글은 댓글 목록 API와 같은 첫 페이지({@code post.bundle.comment-page-size})와
+ * 댓글마다 앞쪽 대댓글({@code post.comments.reply-preview-size})만 담으므로, 댓글이 많은 게시글에서도 응답 크기가 제한됩니다.
+ * 나머지 댓글은 응답의 nextCursor로 댓글 목록 API에서, 나머지 대댓글은 대댓글 목록 API에서 이어 받습니다.
+ * 좋아요 수와 여부는 {@link LikeStore}에서 읽으므로, Redis 저장소에서도 좋아요 API와 같은 값을 보여줍니다.</p>
+ *
+ * <ol>
+ *     <li>게시글 상세 (상세 캐시 적중 시 0회, 아니면 게시글 + 첨부파일 2회)</li>
+ *     <li>게시글 댓글 수 1회 (목록과 같은 비정규화 카운터)</li>
+ *     <li>댓글 첫 페이지 1회, 대댓글 미리보기 1회 (윈도 함수)</li>
+ *     <li>게시글/댓글/대댓글 좋아요 수 유형별 1회 (DB 저장소 기준, Redis 저장소는 적재된 대상이면 0회)</li>
+ *     <li>조회자의 좋아요 여부 유형별 1회 (viewerId가 있을 때만, 게시글은 비트맵 색인 적중 시 0회)</li>
+ * </ol>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostBundleService {
+
+    private final PostService postService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final LikeStore likeStore;
+
+    /**
+     * 묶음에 담을 댓글 수 (댓글 목록 API의 첫 페이지와 같은 순서)
+     */
+    @Value("${post.bundle.comment-page-size:20}")
+    private int commentPageSize;
+
+    /**
+     * 댓글마다 함께 담을 대댓글 수
+     */
+    @Value("${post.comments.reply-preview-size:3}")
+    private int replyPreviewSize;
+
+    /**
+     * 게시글 화면 묶음 조회 (조회수 증가 포함)
+     *
+     * @param postId 게시글 ID
+     * @param viewerId 조회자 ID (없으면 좋아요 여부는 모두 false)
+     * @param clientAddress 클라이언트 주소 (비로그인 조회자 식별용)
+     * @return 게시글 상세, 좋아요, 댓글 첫 페이지/대댓글 미리보기 묶음
+     */
+    public PostBundleResponse getBundle(Long postId, Long viewerId, String clientAddress) {
+        PostDetailResponse post = postService.getPostDetailAndIncreaseView(postId, viewerId, clientAddress, null).response();
+        int commentCount = postRepository.findCommentCountById(postId).orElse(0);
+
+        Slice<Comment> slice = commentRepository.findFirstSlice(postId, PageRequest.of(0, commentPageSize));
+        List<Comment> comments = slice.getContent();
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        List<Reply> replies = commentIds.isEmpty() || replyPreviewSize <= 0
+                ? List.of()
+                : replyRepository.findPreviews(commentIds, replyPreviewSize);
+        Map<Long, List<Reply>> repliesByComment = replies.stream()
+                .collect(Collectors.groupingBy(reply -> reply.getComment().getId()));
+
+        List<Long> replyIds = replies.stream().map(Reply::getId).toList();
+        long likeCount = likeStore.count(LikeTargetType.POST, postId);
+        Map<Long, Long> commentLikes = countLikes(LikeTargetType.COMMENT, commentIds);
+        Map<Long, Long> replyLikes = countLikes(LikeTargetType.REPLY, replyIds);
+
+        boolean postLiked = viewerId != null && likeStore.isLiked(LikeTargetType.POST, postId, viewerId);
+        Set<Long> likedComments = findLiked(LikeTargetType.COMMENT, commentIds, viewerId);
+        Set<Long> likedReplies = findLiked(LikeTargetType.REPLY, replyIds, viewerId);
+
+        List<CommentThreadResponse> threads = comments.stream()
+                .map(comment -> CommentThreadResponse.builder()
+                        .commentId(comment.getId())
+                        .content(comment.getContent())
+                        .writerId(comment.getWriterId())
+                        .createdAt(comment.getCreatedAt())
+                        .updatedAt(comment.getUpdatedAt())
+                        .likeCount(commentLikes.getOrDefault(comment.getId(), 0L).intValue())
+                        .liked(likedComments.contains(comment.getId()))
+                        .replyCount(comment.getReplyCount())
+                        .replies(repliesByComment.getOrDefault(comment.getId(), List.of()).stream()
+                                .map(reply -> toReplyResponse(reply,
+                                        replyLikes.getOrDefault(reply.getId(), 0L).intValue(),
+                                        likedReplies.contains(reply.getId())))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PostBundleResponse.builder()
+                .post(post)
+                .likeCount((int) likeCount)
+                .liked(postLiked)
+                .commentCount(commentCount)
+                .comments(threads)
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    private Map<Long, Long> countLikes(LikeTargetType type, List<Long> targetIds) {
+        return targetIds.isEmpty() ? Map.of() : likeStore.counts(type, targetIds);
+    }
+
+    private Set<Long> findLiked(LikeTargetType type, List<Long> targetIds, Long viewerId) {
+        return viewerId == null || targetIds.isEmpty() ? Set.of() : likeStore.likedTargets(type, targetIds, viewerId);
+    }
+
+    private ReplyResponse toReplyResponse(Reply reply, int likeCount, boolean liked) {
+        return ReplyResponse.builder()
+                .replyId(reply.getId())
+                .content(reply.getContent())
+                .writerId(reply.getWriterId())
+                .createdAt(reply.getCreatedAt())
+                .updatedAt(reply.getUpdatedAt())
+                .liked(liked)
+                .likeCount(likeCount)
+                .chatEntryUrl("/api/chat/start?userId=" + reply.getWriterId())
+                .build();
+    }
+}
@@ -1,24 +1,49 @@
 package com.smartcampus.back.post.service;
 
+import com.smartcampus.back.post.cache.CachedPostDetail;
+import com.smartcampus.back.post.cache.PostDetailCache;
+import com.smartcampus.back.post.cache.PostFeedCache;
+import com.smartcampus.back.post.counter.UniqueViewCounter;
+import com.smartcampus.back.post.counter.ViewCountBuffer;
 import com.smartcampus.back.post.dto.attachment.FileDownloadResponse;
 import com.smartcampus.back.post.dto.post.*;
 import com.smartcampus.back.post.entity.Attachment;
 import com.smartcampus.back.post.entity.Post;
 import com.smartcampus.back.post.enums.AttachmentTargetType;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.enums.PostChangeType;
+import com.smartcampus.back.post.event.LikeTargetsDeletedEvent;
+import com.smartcampus.back.post.event.PostChangedEvent;
 import com.smartcampus.back.post.exception.FileUploadException;
+import com.smartcampus.back.post.exception.InvalidSearchConditionException;
 import com.smartcampus.back.post.exception.PostNotFoundException;
 import com.smartcampus.back.post.exception.UnauthorizedAccessException;
 import com.smartcampus.back.post.repository.AttachmentRepository;
+import com.smartcampus.back.post.repository.CommentRepository;
+import com.smartcampus.back.post.repository.LikeRepository;
 import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.PostSpecifications;
+import com.smartcampus.back.post.repository.ReplyRepository;
+import com.smartcampus.back.post.repository.projection.PostSummary;
+import com.smartcampus.back.post.search.PostSearchIndex;
+import com.smartcampus.back.post.search.PostSuggester;
+import com.smartcampus.back.post.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,9 +54,26 @@ import java.util.stream.Collectors;
 @Transactional
 public class PostService {
 
+    private static final int SEARCH_LIMIT = 50;
+
+    /**
+     * 키워드와 필터를 함께 쓸 때 색인에서 가져올 후보 수 (IN 절 최대 항목 수 이내)
+     */
+    private static final int SEARCH_CANDIDATE_LIMIT = 1000;
+
     private final PostRepository postRepository;
     private final AttachmentRepository attachmentRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
     private final FileStorageService fileStorageService;
+    private final PostFeedCache postFeedCache;
+    private final PostDetailCache postDetailCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSuggester postSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
@@ -54,6 +96,8 @@ public class PostService {
             attachmentRepository.saveAll(attachments);
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), PostChangeType.CREATED));
+
         return PostCreateResponse.builder()
                 .postId(savedPost.getId())
                 .message("게시글이 성공적으로 등록되었습니다.")
@@ -93,6 +137,8 @@ public class PostService {
             attachmentRepository.saveAll(added);
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.UPDATED));
+
         return PostUpdateResponse.builder()
                 .postId(post.getId())
                 .message("게시글이 성공적으로 수정되었습니다.")
@@ -113,8 +159,16 @@ public class PostService {
         List<Attachment> attachments = attachmentRepository.findByTargetIdAndTargetType(postId, AttachmentTargetType.POST);
         attachments.forEach(fileStorageService::deleteFile);
         attachmentRepository.deleteAll(attachments);
+        List<Long> commentIds = commentRepository.findIdsByPostId(postId);
+        List<Long> replyIds = replyRepository.findIdsByPostId(postId);
+        likeRepository.deleteByPost(postId, LikeTargetType.POST, LikeTargetType.COMMENT, LikeTargetType.REPLY);
         postRepository.delete(post);
 
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.DELETED));
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.POST, List.of(postId)));
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.COMMENT, commentIds));
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.REPLY, replyIds));
+
         return PostDeleteResponse.builder()
                 .postId(postId)
                 .message("게시글이 성공적으로 삭제되었습니다.")
@@ -123,71 +177,166 @@ public class PostService {
 
     /**
      * 게시글 상세 조회 + 조회수 증가
+     * - 같은 조회자는 일정 구간 동안 한 번만 집계 (로그인 사용자는 ID, 아니면 클라이언트 주소 기준)
+     * - 조회수는 메모리 버퍼에 누적 후 주기적으로 반영
+     * - 상세 응답은 수정/첨부파일 변경 전까지 캐시에서 바로 반환하며, 캐시 적중 시 DB 연결을 잡지 않도록
+     *   트랜잭션 없이 실행 (캐시 미스 시 조회는 Repository 호출 단위의 읽기 전용 트랜잭션)
+     * - If-None-Match가 현재 버전과 같으면(304 재검증) 새 조회로 보지 않으므로 집계하지 않음
+     *
+     * @param postId 게시글 ID
+     * @param viewerId 조회자 ID (없으면 null)
+     * @param clientAddress 클라이언트 주소
+     * @param ifNoneMatch 클라이언트가 보낸 If-None-Match (없으면 null)
+     * @return ETag가 붙은 상세 응답
      */
-    @Transactional
-    public PostDetailResponse getPostDetailAndIncreaseView(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CachedPostDetail getPostDetailAndIncreaseView(Long postId, Long viewerId, String clientAddress, String ifNoneMatch) {
+        CachedPostDetail detail = postDetailCache.get(postId);
+        if (detail == null) {
+            detail = loadPostDetail(postId);
+        }
+        if (detail.matches(ifNoneMatch)) {
+            return detail;
+        }
+
+        String viewerKey = viewerId != null ? "user:" + viewerId : "addr:" + clientAddress;
+        if (uniqueViewCounter.recordView(postId, viewerKey)) {
+            viewCountBuffer.add(postId, 1);
+            eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.VIEWED));
+        }
+        return detail.withViewCount(detail.response().getViewCount() + (int) viewCountBuffer.pendingCount(postId));
+    }
+
+    /**
+     * 게시글 목록 조회 (페이징)
+     * 앞쪽 페이지는 Redis 피드 캐시에서 먼저 찾습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPostList(int page, int size) {
+        boolean cacheable = postFeedCache.isCacheable(page, size);
+        long stamp = -1;
+        if (cacheable) {
+            Optional<List<PostResponse>> cached = postFeedCache.get(page, size);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            stamp = postFeedCache.stamp();
+        }
 
-        post.setViewCount(post.getViewCount() + 1); // 조회수 증가
-        postRepository.save(post); // 변경 감지 or save 생략 가능 (dirty checking)
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<PostSummary> result = postRepository.findSummaries(pageable);
 
-        List<FileDownloadResponse> files = attachmentRepository.findByTargetIdAndTargetType(postId, AttachmentTargetType.POST).stream()
-                .map(fileStorageService::mapToDownloadResponse)
+        List<PostResponse> responseList = result.stream()
+                .map(this::toPostResponse)
                 .collect(Collectors.toList());
 
-        return PostDetailResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .writerId(post.getWriterId())
-                .isPublic(post.isPublic())
-                .viewCount(post.getViewCount())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .attachments(files)
+        if (cacheable) {
+            postFeedCache.put(page, size, stamp, responseList);
+        }
+        return responseList;
+    }
+
+    /**
+     * 게시글 목록 조회 (커서 기반)
+     * 마지막으로 받은 (createdAt, id) 이후의 게시글만 읽으므로 깊은 페이지도 비용이 일정합니다.
+     *
+     * @param after 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponse getPostSlice(String after, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PostSummary> slice;
+        if (after == null || after.isBlank()) {
+            slice = postRepository.findLatestSlice(pageable);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            slice = postRepository.findSliceAfter(cursor.getCreatedAt(), cursor.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            PostSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PostSliceResponse.builder()
+                .posts(slice.stream()
+                        .map(this::toPostResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
                 .build();
     }
 
     /**
-     * 게시글 목록 조회 (페이징)
+     * 게시글 검색 (키워드, 작성자, 공개 여부, 작성 기간)
+     * - 키워드가 있으면 역색인(BM25) 관련도 순, 없으면 최신순으로 반환
+     * - 키워드 외 조건은 값이 있는 것만 하나의 동적 쿼리로 결합하며, 색인 검색 결과는 ID 후보 조건으로 전달
+     * - 색인 적재가 끝나기 전에는 키워드도 DB LIKE 조건으로 대체
+     * - 결과가 있었던 키워드는 자동완성 후보로 기록
      */
     @Transactional(readOnly = true)
-    public List<PostResponse> getPostList(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Post> result = postRepository.findAll(pageable);
-
-        return result.stream()
-                .map(post -> PostResponse.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .writerId(post.getWriterId())
-                        .viewCount(post.getViewCount())
-                        .createdAt(post.getCreatedAt())
-                        .likeCount(post.getLikes().size())
-                        .commentCount(post.getComments().size())
-                        .build())
+    public List<PostResponse> searchPosts(PostSearchCondition condition) {
+        if (condition.getStartDate() != null && condition.getEndDate() != null
+                && condition.getStartDate().isAfter(condition.getEndDate())) {
+            throw new InvalidSearchConditionException("검색 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        List<PostResponse> result = findSearchResults(condition);
+        if (!result.isEmpty() && condition.getKeyword() != null) {
+            postSuggester.recordQuery(condition.getKeyword());
+        }
+        return result;
+    }
+
+    private List<PostResponse> findSearchResults(PostSearchCondition condition) {
+        Specification<Post> filters = PostSpecifications.matching(condition);
+        String keyword = condition.getKeyword();
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+
+        if (hasKeyword && postSearchIndex.isReady()) {
+            if (!hasFilters(condition)) {
+                return getPostsInOrder(postSearchIndex.search(keyword, SEARCH_LIMIT));
+            }
+            List<Long> ranked = postSearchIndex.search(keyword, SEARCH_CANDIDATE_LIMIT);
+            if (ranked.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, PostSummary> matched = postRepository
+                    .findSummaries(filters.and(PostSpecifications.idIn(ranked)), ranked.size()).stream()
+                    .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+            return ranked.stream()
+                    .map(matched::get)
+                    .filter(Objects::nonNull)
+                    .limit(SEARCH_LIMIT)
+                    .map(this::toPostResponse)
+                    .collect(Collectors.toList());
+        }
+
+        Specification<Post> spec = hasKeyword ? filters.and(PostSpecifications.keywordContains(keyword)) : filters;
+        return postRepository.findSummaries(spec, SEARCH_LIMIT).stream()
+                .map(this::toPostResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 게시글 검색 (제목 또는 내용)
+     * ID 목록 순서대로 게시글 요약 조회 (존재하지 않는 ID는 제외)
+     * 트렌딩, 검색 등 외부에서 순위를 정한 목록을 화면용 DTO로 변환할 때 사용
      */
     @Transactional(readOnly = true)
-    public List<PostResponse> searchPosts(String keyword) {
-        Pageable pageable = PageRequest.of(0, 50);
-        Page<Post> posts = postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
-
-        return posts.stream()
-                .map(post -> PostResponse.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .writerId(post.getWriterId())
-                        .viewCount(post.getViewCount())
-                        .createdAt(post.getCreatedAt())
-                        .likeCount(post.getLikes().size())
-                        .commentCount(post.getComments().size())
-                        .build())
+    public List<PostResponse> getPostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> byId = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toPostResponse)
                 .collect(Collectors.toList());
     }
 
@@ -218,5 +367,55 @@ public class PostService {
 
         fileStorageService.deleteFile(attachment);
         attachmentRepository.delete(attachment);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangeType.ATTACHMENTS_CHANGED));
+    }
+
+    /**
+     * 게시글과 첨부파일을 읽어 상세 응답을 만들고 캐시에 등록
+     */
+    private CachedPostDetail loadPostDetail(Long postId) {
+        PostDetailCache.Stamp stamp = postDetailCache.stamp();
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("해당 게시글이 존재하지 않습니다."));
+
+        List<FileDownloadResponse> files = attachmentRepository.findByTargetIdAndTargetType(postId, AttachmentTargetType.POST).stream()
+                .map(fileStorageService::mapToDownloadResponse)
+                .collect(Collectors.toList());
+
+        PostDetailResponse response = PostDetailResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .writerId(post.getWriterId())
+                .isPublic(post.isPublic())
+                .viewCount(post.getViewCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .attachments(files)
+                .build();
+        return postDetailCache.put(postId, stamp, response);
+    }
+
+    /**
+     * 키워드 외 필터 조건이 하나라도 있는지 확인
+     */
+    private static boolean hasFilters(PostSearchCondition condition) {
+        return condition.getWriterId() != null || condition.getIsPublic() != null
+                || condition.getStartDate() != null || condition.getEndDate() != null;
+    }
+
+    /**
+     * 목록용 요약 DTO 변환
+     */
+    private PostResponse toPostResponse(PostSummary post) {
+        return PostResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .writerId(post.getWriterId())
+                .viewCount(post.getViewCount())
+                .createdAt(post.getCreatedAt())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .build();
     }
 }
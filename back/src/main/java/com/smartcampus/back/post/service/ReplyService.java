@@ -4,12 +4,18 @@ import com.smartcampus.back.post.dto.reply.ReplyCreateRequest;
 import com.smartcampus.back.post.dto.reply.ReplyResponse;
 import com.smartcampus.back.post.dto.reply.ReplyUpdateRequest;
 import com.smartcampus.back.post.entity.*;
+import com.smartcampus.back.post.enums.ActivityType;
 import com.smartcampus.back.post.enums.AttachmentTargetType;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.event.ActivityEvent;
+import com.smartcampus.back.post.event.LikeTargetsDeletedEvent;
 import com.smartcampus.back.post.exception.*;
 import com.smartcampus.back.post.repository.AttachmentRepository;
 import com.smartcampus.back.post.repository.CommentRepository;
+import com.smartcampus.back.post.repository.LikeRepository;
 import com.smartcampus.back.post.repository.ReplyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,8 +32,10 @@ public class ReplyService {
 
     private final CommentRepository commentRepository;
     private final ReplyRepository replyRepository;
+    private final LikeRepository likeRepository;
     private final AttachmentRepository attachmentRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 대댓글 생성
@@ -47,6 +55,8 @@ public class ReplyService {
                 .build();
 
         Reply savedReply = replyRepository.save(reply);
+        commentRepository.updateReplyCount(commentId, 1);
+        eventPublisher.publishEvent(new ActivityEvent(ActivityType.COMMENT_REPLIED, commentId, comment.getWriterId(), savedReply.getWriterId()));
 
         if (files != null && !files.isEmpty()) {
             List<Attachment> attachments = files.stream()
@@ -107,7 +117,10 @@ public class ReplyService {
         attachments.forEach(fileStorageService::deleteFile);
         attachmentRepository.deleteAll(attachments);
 
+        likeRepository.deleteByTarget(LikeTargetType.REPLY, replyId);
         replyRepository.delete(reply);
+        commentRepository.updateReplyCount(commentId, -1);
+        eventPublisher.publishEvent(new LikeTargetsDeletedEvent(LikeTargetType.REPLY, List.of(replyId)));
     }
 
     /**
@@ -130,7 +143,7 @@ public class ReplyService {
                 .createdAt(reply.getCreatedAt())
                 .updatedAt(reply.getUpdatedAt())
                 .liked(false)
-                .likeCount(0)
+                .likeCount(reply.getLikeCount())
                 .chatEntryUrl("/api/chat/start?userId=" + reply.getWriterId())
                 .build();
     }
@@ -0,0 +1,278 @@
+package com.smartcampus.back.post.service;
+
+import com.smartcampus.back.post.dto.post.PostResponse;
+import com.smartcampus.back.post.entity.PostTrendingScore;
+import com.smartcampus.back.post.event.PostChangedEvent;
+import com.smartcampus.back.post.repository.PostTrendingScoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 게시글(트렌딩) 순위를 관리하는 서비스 클래스
+ *
+ * <p>점수 = Σ 가중치 × 2^(-(현재시각 - 발생시각) / 반감기) 로, 오래된 활동일수록 기여도가 지수적으로 줄어듭니다.
+ * 모든 점수를 매번 감쇠시키는 대신 "전진 감쇠(forward decay)" 방식으로 새 활동에 2^((발생시각 - 기준시각) / 반감기)를 곱해
+ * Redis ZSET에 ZINCRBY로 누적하므로, 순위 비교는 항상 정확하고 갱신은 O(log N)입니다.
+ * 배율이 너무 커지면 Lua 스크립트 안에서 ZUNIONSTORE WEIGHTS로 전체를 한 번에 재조정하고 기준시각을 옮깁니다.</p>
+ *
+ * <p>좋아요/댓글 취소는 원래 활동 시각을 모르므로 현재 시각의 가중치를 빼며, 이 값은 원래 더한 값보다 클 수 있습니다.
+ * 점수가 음수가 되지 않도록 스크립트 안에서 0으로 고정합니다.</p>
+ *
+ * <p>조회 요청은 주기적으로 갱신되는 메모리 스냅샷에서 바로 응답하며,
+ * 점수는 주기적으로 DB(post_trending_scores)에 저장되어 Redis 초기화 시 복원됩니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final String RANKING_KEY = "post:trending";
+    private static final String EPOCH_KEY = "post:trending:epoch";
+
+    /**
+     * KEYS[1]=랭킹 ZSET, KEYS[2]=기준시각
+     * ARGV[1]=현재시각(초), ARGV[2]=반감기(초), ARGV[3]=가중치, ARGV[4]=게시글 ID, ARGV[5]=재조정 임계 지수
+     * 결과 점수가 음수이면 0으로 고정
+     */
+    private static final RedisScript<String> INCREMENT_SCRIPT = RedisScript.of("""
+            local now = tonumber(ARGV[1])
+            local halfLife = tonumber(ARGV[2])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = now
+                redis.call('SET', KEYS[2], ARGV[1])
+            end
+            local exponent = (now - epoch) / halfLife
+            if exponent > tonumber(ARGV[5]) then
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(2 ^ (-exponent)))
+                redis.call('SET', KEYS[2], ARGV[1])
+                exponent = 0
+            end
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], tostring(tonumber(ARGV[3]) * 2 ^ exponent), ARGV[4]))
+            if score < 0 then
+                redis.call('ZADD', KEYS[1], 0, ARGV[4])
+                return '0'
+            end
+            return tostring(score)
+            """, String.class);
+
+    private static final String UPSERT_SQL = "INSERT INTO post_trending_scores (post_id, log_score, saved_at) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE log_score = VALUES(log_score), saved_at = VALUES(saved_at)";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostTrendingScoreRepository trendingScoreRepository;
+    private final PostService postService;
+
+    @Value("${post.trending.half-life-hours:12}")
+    private double halfLifeHours;
+
+    @Value("${post.trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${post.trending.weight.like:3}")
+    private double likeWeight;
+
+    @Value("${post.trending.weight.comment:5}")
+    private double commentWeight;
+
+    /**
+     * 기준시각 재조정 임계 (반감기 배수) - 2^32 배를 넘기 전에 재조정하여 double 정밀도 유지
+     */
+    @Value("${post.trending.rebase-half-lives:32}")
+    private int rebaseHalfLives;
+
+    /**
+     * ZSET 및 DB 스냅샷에 유지할 최대 게시글 수
+     */
+    @Value("${post.trending.max-entries:5000}")
+    private int maxEntries;
+
+    /**
+     * 메모리 스냅샷에 보관할 상위 게시글 수
+     */
+    @Value("${post.trending.snapshot-size:100}")
+    private int snapshotSize;
+
+    /**
+     * 조회 요청이 바로 읽는 상위 N개 게시글 스냅샷
+     */
+    private volatile List<PostResponse> snapshot = List.of();
+
+    /**
+     * 인기 게시글 목록 조회
+     * 메모리 스냅샷을 그대로 잘라 반환하므로 게시판 규모와 무관하게 일정한 시간에 응답합니다.
+     *
+     * @param size 조회할 게시글 수 (최대 snapshot-size)
+     * @return 점수 내림차순 게시글 목록
+     */
+    public List<PostResponse> getTrendingPosts(int size) {
+        List<PostResponse> current = snapshot;
+        if (current.isEmpty()) {
+            refreshSnapshot();
+            current = snapshot;
+        }
+        return current.subList(0, Math.max(0, Math.min(size, current.size())));
+    }
+
+    /**
+     * 게시글 활동 이벤트를 점수에 반영합니다. (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case VIEWED -> increment(event.getPostId(), viewWeight);
+            case LIKED -> increment(event.getPostId(), likeWeight);
+            case UNLIKED -> increment(event.getPostId(), -likeWeight);
+            case COMMENTED -> increment(event.getPostId(), commentWeight);
+            case UNCOMMENTED -> increment(event.getPostId(), -commentWeight);
+            case DELETED -> remove(event.getPostId());
+            case CREATED, UPDATED, ATTACHMENTS_CHANGED -> {
+                // 작성/수정 자체는 인기도에 반영하지 않음
+            }
+        }
+    }
+
+    /**
+     * 메모리 스냅샷 갱신 (ZSET 상위 N개 → 게시글 요약)
+     */
+    @Scheduled(fixedDelayString = "${post.trending.refresh-interval-ms:10000}")
+    public void refreshSnapshot() {
+        try {
+            Set<String> top = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, snapshotSize - 1);
+            if (top == null || top.isEmpty()) {
+                snapshot = List.of();
+                return;
+            }
+            List<Long> postIds = top.stream().map(Long::valueOf).toList();
+            snapshot = List.copyOf(postService.getPostsInOrder(postIds));
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 트렌딩 스냅샷 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * ZSET 점수를 DB에 저장하고, 최대 개수를 넘는 하위 항목을 정리합니다.
+     * 점수는 기준시각에 의존하지 않도록 log2 + (기준시각 / 반감기) 형태로 정규화해 JDBC 배치 upsert로 저장합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${post.trending.persist-interval-ms:300000}",
+            fixedDelayString = "${post.trending.persist-interval-ms:300000}"
+    )
+    @Transactional
+    public void persistScores() {
+        try {
+            String epochValue = redisTemplate.opsForValue().get(EPOCH_KEY);
+            if (epochValue == null) {
+                return;
+            }
+            redisTemplate.opsForZSet().removeRange(RANKING_KEY, 0, -(maxEntries + 1L));
+            Set<TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(RANKING_KEY, 0, maxEntries - 1);
+            if (entries == null) {
+                return;
+            }
+
+            double epochHalfLives = Double.parseDouble(epochValue) / halfLifeSeconds();
+            // 컬럼 정밀도에 따라 반올림되어도 이번 저장분이 정리 대상에 걸리지 않도록 초 단위로 자름
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+            List<Object[]> rows = new ArrayList<>();
+            for (TypedTuple<String> entry : entries) {
+                if (entry.getValue() == null || entry.getScore() == null || entry.getScore() <= 0) {
+                    continue;
+                }
+                rows.add(new Object[]{Long.valueOf(entry.getValue()), log2(entry.getScore()) + epochHalfLives, now});
+            }
+
+            // 이번에 저장하지 않은(순위 밖으로 밀려난) 항목은 이전 저장 시각이 남으므로 함께 정리
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            trendingScoreRepository.deleteBySavedAtBefore(now.toLocalDateTime());
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 트렌딩 점수 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 Redis에 순위가 없으면 DB 스냅샷으로 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreScores() {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(RANKING_KEY);
+            if (size != null && size > 0) {
+                return;
+            }
+            List<PostTrendingScore> rows = trendingScoreRepository.findAll();
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            double now = nowSeconds();
+            double nowHalfLives = now / halfLifeSeconds();
+            Set<TypedTuple<String>> tuples = new HashSet<>();
+            for (PostTrendingScore row : rows) {
+                double score = Math.pow(2, row.getLogScore() - nowHalfLives);
+                tuples.add(TypedTuple.of(String.valueOf(row.getPostId()), score));
+            }
+            redisTemplate.opsForValue().set(EPOCH_KEY, String.valueOf(now));
+            redisTemplate.opsForZSet().add(RANKING_KEY, tuples);
+            System.out.println("✅ 트렌딩 점수 복원 완료 (" + tuples.size() + "건)");
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 트렌딩 점수 복원 실패: " + e.getMessage());
+        }
+    }
+
+    private void increment(Long postId, double weight) {
+        try {
+            redisTemplate.execute(
+                    INCREMENT_SCRIPT,
+                    List.of(RANKING_KEY, EPOCH_KEY),
+                    String.valueOf(nowSeconds()),
+                    String.valueOf(halfLifeSeconds()),
+                    String.valueOf(weight),
+                    String.valueOf(postId),
+                    String.valueOf(rebaseHalfLives)
+            );
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 트렌딩 점수 갱신 실패 (postId=" + postId + "): " + e.getMessage());
+        }
+    }
+
+    private void remove(Long postId) {
+        try {
+            redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(postId));
+        } catch (DataAccessException e) {
+            System.err.println("⚠️ 트렌딩 항목 삭제 실패 (postId=" + postId + "): " + e.getMessage());
+        }
+    }
+
+    private double halfLifeSeconds() {
+        return halfLifeHours * 3600;
+    }
+
+    private static double nowSeconds() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
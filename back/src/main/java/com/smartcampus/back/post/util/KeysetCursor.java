@@ -0,0 +1,65 @@
+package com.smartcampus.back.post.util;
+
+import com.smartcampus.back.post.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 기반 페이지네이션에 사용되는 커서
+ * 마지막으로 조회한 행의 (createdAt, id) 쌍을 클라이언트가 해석할 수 없는 문자열로 인코딩합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 마지막 행의 생성 시각
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막 행의 ID (동일 시각 정렬 보조 키)
+     */
+    private final Long id;
+
+    /**
+     * 커서를 URL-safe Base64 문자열로 인코딩합니다.
+     *
+     * @return 불투명(opaque) 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서 문자열
+     * @return 커서 객체
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep < 0) {
+                throw new InvalidCursorException();
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.smartcampus.back.post.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비정규화 카운터 재계산기 테스트
+ * 카운터 컬럼이 0(또는 틀린 값)인 기존 행과 원본 행을 넣고, 재계산 후 원본 행 수와 일치하는지 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:counter-recount;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(CounterRecount.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CounterRecountTest {
+
+    @Autowired
+    private CounterRecount counterRecount;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : new String[]{"likes", "like_counter_shards", "comment_replies", "post_comments", "posts"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        // 게시글 3개는 모두 카운터 0, 게시글 2는 샤드 행에 남은 증감분이 있음
+        for (long postId = 1; postId <= 3; postId++) {
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, writer_id, is_public, view_count, like_count, "
+                    + "comment_count, created_at, updated_at) VALUES (?, '제목', '본문', 1, TRUE, 0, 0, 0, NOW(), NOW())", postId);
+        }
+        jdbcTemplate.update("INSERT INTO like_counter_shards (target_type, target_id, shard, like_count) VALUES (1, 2, 0, 5)");
+
+        // 게시글 1: 댓글 2개 (댓글 10에 대댓글 2개), 게시글 2: 댓글 1개
+        comment(10L, 1L);
+        comment(11L, 1L);
+        comment(20L, 2L);
+        reply(100L, 10L);
+        reply(101L, 10L);
+
+        // 좋아요: 게시글 1 ← 3명, 게시글 2 ← 1명, 댓글 10 ← 2명, 대댓글 101 ← 1명
+        like(1, 1L, 7L);
+        like(1, 1L, 8L);
+        like(1, 1L, 9L);
+        like(1, 2L, 7L);
+        like(2, 10L, 7L);
+        like(2, 10L, 8L);
+        like(3, 101L, 9L);
+    }
+
+    @Test
+    void recountsEveryCounterFromSourceRows() {
+        ReflectionTestUtils.setField(counterRecount, "batchSize", 2L);   // 여러 구간으로 나눠 실행되는지도 확인
+
+        assertThat(counterRecount.recountAll()).isEqualTo(3 + 3 + 2);
+
+        assertThat(post(1L)).containsExactly(3, 2);
+        assertThat(post(2L)).containsExactly(1, 1);
+        assertThat(post(3L)).containsExactly(0, 0);
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM post_comments WHERE id = 10", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT reply_count FROM post_comments WHERE id = 10", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT reply_count FROM post_comments WHERE id = 11", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM comment_replies WHERE id = 100", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM comment_replies WHERE id = 101", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM like_counter_shards", Integer.class)).isZero();
+    }
+
+    @Test
+    void recountIsIdempotent() {
+        counterRecount.recountAll();
+        counterRecount.recountAll();
+
+        assertThat(post(1L)).containsExactly(3, 2);
+    }
+
+    private Integer[] post(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT like_count, comment_count FROM posts WHERE id = ?",
+                (rs, rowNum) -> new Integer[]{rs.getInt(1), rs.getInt(2)}, postId);
+    }
+
+    private void comment(Long commentId, Long postId) {
+        jdbcTemplate.update("INSERT INTO post_comments (id, content, writer_id, like_count, reply_count, post_id, created_at) "
+                + "VALUES (?, '댓글', 2, 0, 0, ?, NOW())", commentId, postId);
+    }
+
+    private void reply(Long replyId, Long commentId) {
+        jdbcTemplate.update("INSERT INTO comment_replies (id, content, writer_id, like_count, comment_id, created_at) "
+                + "VALUES (?, '대댓글', 3, 0, ?, NOW())", replyId, commentId);
+    }
+
+    private void like(int type, Long targetId, Long userId) {
+        jdbcTemplate.update("INSERT INTO likes (target_type, target_id, user_id, created_at) VALUES (?, ?, ?, NOW())",
+                type, targetId, userId);
+    }
+}
@@ -0,0 +1,126 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 좋아요 저장소 동시 토글 테스트
+ * 두 스레드가 매 회차 장벽(barrier)에서 만나 같은 게시글에 서로 다른 사용자로 동시에 좋아요/취소하며,
+ * 교착 상태로 롤백되는 요청 없이 모든 토글과 카운터가 반영되는지 확인합니다.
+ *
+ * <p>기본은 H2(MySQL 모드)로 실행합니다. 공유 잠금으로 인한 교착 상태는 InnoDB의 REPEATABLE READ에서만 재현되므로,
+ * 실제 MySQL로 확인하려면 스키마가 준비된 빈 DB를 지정해 실행합니다.
+ * (예: {@code -Dlike.test.datasource-url=jdbc:mysql://localhost:3306/smartcampus_test -Dlike.test.datasource-username=...
+ * -Dlike.test.datasource-password=... -Dlike.test.ddl-auto=none})</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${like.test.datasource-url:jdbc:h2:mem:like-concurrency;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${like.test.datasource-username:sa}",
+        "spring.datasource.password=${like.test.datasource-password:}",
+        "spring.jpa.hibernate.ddl-auto=${like.test.ddl-auto:create-drop}"
+})
+@Import({DatabaseLikeStore.class, LikeBitmapIndex.class, ShardedLikeCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseLikeStoreConcurrencyTest {
+
+    private static final long POST_ID = 1L;
+    private static final int ROUNDS = 100;
+
+    @Autowired
+    private DatabaseLikeStore likeStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, writer_id, is_public, view_count, like_count, "
+                + "comment_count, created_at, updated_at) VALUES (?, '제목', '본문', 1, TRUE, 0, 0, 0, NOW(), NOW())", POST_ID);
+    }
+
+    @Test
+    void concurrentLikesOnSamePostAllSucceed() throws Exception {
+        // 회차마다 두 사용자가 동시에 좋아요 → 짝수 회차 사용자는 동시에 취소
+        runConcurrently(round -> {
+            long userId = round.userId();
+            assertThat(likeStore.toggle(LikeTargetType.POST, POST_ID, userId)).hasValueSatisfying(result ->
+                    assertThat(result.liked()).isTrue());
+            if (round.index() % 2 == 0) {
+                round.await();
+                assertThat(likeStore.toggle(LikeTargetType.POST, POST_ID, userId)).hasValueSatisfying(result ->
+                        assertThat(result.liked()).isFalse());
+            }
+        });
+
+        int expected = ROUNDS;   // 두 스레드 × 홀수 회차
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE target_type = 1 AND target_id = ?",
+                Integer.class, POST_ID)).isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, POST_ID))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void missingTargetIsNotLiked() {
+        assertThat(likeStore.toggle(LikeTargetType.POST, 999L, 10L)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes", Integer.class)).isZero();
+    }
+
+    private void runConcurrently(RoundAction action) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int index = 0; index < ROUNDS; index++) {
+                        Round round = new Round(index, index * 2L + offset + 10, barrier);
+                        round.await();
+                        action.run(round);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Round(int index, long userId, CyclicBarrier barrier) {
+
+        void await() throws Exception {
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RoundAction {
+        void run(Round round) throws Exception;
+    }
+}
@@ -0,0 +1,70 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.event.LikeToggledEvent;
+import com.smartcampus.back.post.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 좋아요 비트맵 색인 테스트
+ */
+class LikeBitmapIndexTest {
+
+    private LikeRepository likeRepository;
+    private LikeBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        likeRepository = mock(LikeRepository.class);
+        index = new LikeBitmapIndex(likeRepository);
+        ReflectionTestUtils.setField(index, "maxUsers", 100);
+        ReflectionTestUtils.setField(index, "maxPosts", 100);
+        ReflectionTestUtils.setField(index, "ttlMs", 60_000L);
+    }
+
+    @Test
+    void answersFromLoadedBitmaps() {
+        when(likeRepository.findTargetIdsByUserId(7L, LikeTargetType.POST)).thenReturn(List.of(1L, 3L, 5L));
+        when(likeRepository.findUserIdsByTarget(LikeTargetType.POST, 2L)).thenReturn(List.of(8L));
+
+        assertThat(index.likedPosts(7L, List.of(1L, 2L, 3L, 4L))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.isLiked(5L, 7L)).isTrue();   // 사용자 비트맵 사용
+        assertThat(index.isLiked(2L, 8L)).isTrue();   // 게시글 비트맵 적재
+        assertThat(index.isLiked(2L, 9L)).isFalse();
+        verify(likeRepository, times(1)).findTargetIdsByUserId(7L, LikeTargetType.POST);
+        verify(likeRepository, times(1)).findUserIdsByTarget(LikeTargetType.POST, 2L);
+    }
+
+    @Test
+    void appliesTogglesToCachedBitmaps() {
+        when(likeRepository.findTargetIdsByUserId(7L, LikeTargetType.POST)).thenReturn(List.of(1L));
+        assertThat(index.likedPosts(7L, List.of(1L, 2L))).containsExactly(1L);
+
+        index.onLikeToggled(new LikeToggledEvent(LikeTargetType.POST, 2L, 7L, true));
+        index.onLikeToggled(new LikeToggledEvent(LikeTargetType.POST, 1L, 7L, false));
+
+        assertThat(index.likedPosts(7L, List.of(1L, 2L))).containsExactly(2L);
+        verify(likeRepository, times(1)).findTargetIdsByUserId(7L, LikeTargetType.POST);
+    }
+
+    @Test
+    void reloadsBitmapsAfterTtl() {
+        // 다른 인스턴스에서 일어난 토글은 이벤트로 오지 않으므로 보관 시간이 지나면 DB에서 다시 읽어야 함
+        ReflectionTestUtils.setField(index, "ttlMs", 0L);
+        when(likeRepository.findTargetIdsByUserId(7L, LikeTargetType.POST)).thenReturn(List.of(1L), List.of(1L, 2L));
+
+        assertThat(index.likedPosts(7L, List.of(1L, 2L))).containsExactly(1L);
+        assertThat(index.likedPosts(7L, List.of(1L, 2L))).containsExactlyInAnyOrder(1L, 2L);
+        verify(likeRepository, times(2)).findTargetIdsByUserId(7L, LikeTargetType.POST);
+    }
+}
@@ -0,0 +1,111 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.counter.CounterRecount;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 저장 구조 비교 벤치마크 (./gradlew benchmark)
+ * 이전 구조(post_likes: 네 BIGINT 복합 키 + 대상 컬럼별 외래 키 인덱스)와
+ * 새 구조(likes: TINYINT 유형 + 대상 ID + 사용자 ID 키 + 사용자 커버링 인덱스)에 같은 좋아요를 넣어
+ * 저장 공간과 삽입 처리량을 비교하고, 이전 구조의 행이 빠짐없이 이관되는지 확인합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        // 디스크 사용량(DISK_SPACE_USED)은 파일 DB에서만 측정됨
+        "spring.datasource.url=jdbc:h2:file:${java.io.tmpdir}/like-storage-benchmark;MODE=MySQL;LOCK_TIMEOUT=30000",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({LegacyLikeMigration.class, CounterRecount.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeStorageBenchmarkTest {
+
+    private static final int LIKES = 200_000;
+    private static final int BATCH = 1_000;
+
+    @Autowired
+    private LegacyLikeMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compactLayoutIsSmallerAndMigratesEveryRow() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS post_likes");
+        jdbcTemplate.execute("CREATE TABLE post_likes (user_id BIGINT NOT NULL, post_id BIGINT NOT NULL, "
+                + "comment_id BIGINT NOT NULL, reply_id BIGINT NOT NULL, created_at TIMESTAMP, "
+                + "PRIMARY KEY (comment_id, post_id, reply_id, user_id))");
+        jdbcTemplate.execute("CREATE INDEX fk_post_likes_post ON post_likes (post_id)");
+        jdbcTemplate.execute("CREATE INDEX fk_post_likes_comment ON post_likes (comment_id)");
+        jdbcTemplate.execute("CREATE INDEX fk_post_likes_reply ON post_likes (reply_id)");
+
+        // 게시글 70%, 댓글 20%, 대댓글 10% (중복 없는 사용자-대상 쌍)
+        List<Object[]> legacyRows = new ArrayList<>(LIKES);
+        List<Object[]> compactRows = new ArrayList<>(LIKES);
+        Random random = new Random(42);
+        for (int i = 0; i < LIKES; i++) {
+            long userId = i / 50 + 1;
+            long targetId = i % 50 * 1_000 + random.nextInt(1_000) + 1;
+            int roll = random.nextInt(10);
+            LikeTargetType type = roll < 7 ? LikeTargetType.POST : roll < 9 ? LikeTargetType.COMMENT : LikeTargetType.REPLY;
+            legacyRows.add(new Object[]{userId,
+                    type == LikeTargetType.POST ? targetId : 0L,
+                    type == LikeTargetType.COMMENT ? targetId : 0L,
+                    type == LikeTargetType.REPLY ? targetId : 0L});
+            compactRows.add(new Object[]{type.getCode(), targetId, userId});
+        }
+
+        long legacyNanos = insert("INSERT INTO post_likes (user_id, post_id, comment_id, reply_id, created_at) "
+                + "VALUES (?, ?, ?, ?, NOW())", legacyRows);
+        long compactNanos = insert("INSERT INTO likes (target_type, target_id, user_id, created_at) "
+                + "VALUES (?, ?, ?, NOW())", compactRows);
+
+        long legacyBytes = diskSpaceUsed("POST_LIKES");
+        long compactBytes = diskSpaceUsed("LIKES");
+        System.out.printf("likes=%,d  post_likes: %,d bytes (%d/row), %,d rows/s  likes: %,d bytes (%d/row), %,d rows/s%n",
+                LIKES, legacyBytes, legacyBytes / LIKES, LIKES * 1_000_000_000L / legacyNanos,
+                compactBytes, compactBytes / LIKES, LIKES * 1_000_000_000L / compactNanos);
+        // InnoDB 기준 키 크기: 보조 인덱스는 기본 키 전체를 포함
+        System.out.printf("innodb key bytes/row  post_likes: %d (PK 32 + 3 x (8 + 32))  likes: %d (PK 17 + (17))%n",
+                32 + 3 * (8 + 32), 17 + 17);
+
+        assertThat(compactBytes).isLessThan(legacyBytes);
+
+        // 같은 행이 이미 있는 상태에서 이관해도 중복 없이 그대로여야 하고, 비운 뒤 이관하면 모두 복사되어야 함
+        assertThat(migration.migrate()).isZero();
+        jdbcTemplate.update("DELETE FROM likes");
+        assertThat(migration.migrate()).isEqualTo(LIKES);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE target_type = ?", Long.class,
+                LikeTargetType.REPLY.getCode()))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE reply_id <> 0", Long.class));
+    }
+
+    private long insert(String sql, List<Object[]> rows) {
+        long start = System.nanoTime();
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH, rows.size())));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long diskSpaceUsed(String table) {
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED(?)", Long.class, table);
+    }
+}
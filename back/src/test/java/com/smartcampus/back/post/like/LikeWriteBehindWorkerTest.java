@@ -0,0 +1,92 @@
+package com.smartcampus.back.post.like;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좋아요 쓰기 지연 작업기 테스트
+ * Redis는 목(mock)으로 반영 시점의 상태를 흉내 내고, DB는 H2(MySQL 모드)에 실제로 반영해 확인합니다.
+ */
+class LikeWriteBehindWorkerTest {
+
+    private static final String FLUSHING_KEY = RedisLikeStore.DIRTY_KEY + ":flushing";
+
+    private JdbcTemplate jdbcTemplate;
+    private StringRedisTemplate redisTemplate;
+    private SetOperations<String, String> setOperations;
+    private LikeWriteBehindWorker worker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:like-write-behind;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS likes");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS posts");
+        jdbcTemplate.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, like_count INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE likes (target_type TINYINT NOT NULL, target_id BIGINT NOT NULL, "
+                + "user_id BIGINT NOT NULL, created_at TIMESTAMP, PRIMARY KEY (target_type, target_id, user_id))");
+        jdbcTemplate.update("INSERT INTO posts (id, like_count) VALUES (1, 1)");
+        jdbcTemplate.update("INSERT INTO likes (target_type, target_id, user_id, created_at) VALUES (1, 1, 11, NOW())");
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.hasKey(FLUSHING_KEY)).thenReturn(false);
+        when(redisTemplate.hasKey(RedisLikeStore.DIRTY_KEY)).thenReturn(true);
+        when(redisTemplate.renameIfAbsent(RedisLikeStore.DIRTY_KEY, FLUSHING_KEY)).thenReturn(true);
+
+        worker = new LikeWriteBehindWorker(redisTemplate, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(worker, "batchSize", 500);
+    }
+
+    @Test
+    void flushWritesRedisStateAndClearsAppliedMarks() {
+        // 사용자 10은 좋아요, 사용자 11은 취소한 상태이고 Redis의 좋아요 수는 1
+        Set<String> batch = new LinkedHashSet<>(List.of("POST:1:10", "POST:1:11"));
+        when(setOperations.distinctRandomMembers(eq(FLUSHING_KEY), anyLong())).thenReturn(batch, Set.of());
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false, "1"));
+
+        worker.flush();
+
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM likes WHERE target_type = 1 AND target_id = 1", Long.class))
+                .containsExactly(10L);
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = 1", Integer.class)).isEqualTo(1);
+        verify(setOperations).remove(FLUSHING_KEY, batch.toArray());
+    }
+
+    @Test
+    void failedFlushKeepsMarksForNextCycle() {
+        jdbcTemplate.execute("DROP TABLE likes");
+        Set<String> batch = new LinkedHashSet<>(List.of("POST:1:10"));
+        when(setOperations.distinctRandomMembers(eq(FLUSHING_KEY), anyLong())).thenReturn(batch, Set.of());
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, "2"));
+
+        worker.flush();
+
+        verify(setOperations, never()).remove(eq(FLUSHING_KEY), any(Object[].class));
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartcampus.back.post.like;
+
+import com.smartcampus.back.post.enums.LikeTargetType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분할 좋아요 카운터 경합 벤치마크 (./gradlew benchmark)
+ * 여러 스레드가 한 게시글에 동시에 좋아요를 누를 때, 분할 모드가 대상 행 잠금 대기를 줄여 처리량을 높이는지 확인합니다.
+ * 각 토글 트랜잭션은 카운터 갱신 뒤 나머지 문장을 실행하는 동안(HOLD_NANOS) 잠금을 쥐고 있는 것으로 가정합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:like-shards;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(ShardedLikeCounter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShardedLikeCounterBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int LIKES_PER_THREAD = 300;
+    private static final long HOLD_NANOS = 200_000;
+
+    @Autowired
+    private ShardedLikeCounter likeCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shardingRaisesThroughputUnderContention() throws Exception {
+        ReflectionTestUtils.setField(likeCounter, "shardCount", 16);
+        ReflectionTestUtils.setField(likeCounter, "promotePerMinute", 1L);
+        ReflectionTestUtils.setField(likeCounter, "demotePerMinute", 0L);
+        ReflectionTestUtils.setField(likeCounter, "checkIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(likeCounter, "readCacheMs", 0L);
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, writer_id, is_public, view_count, like_count, "
+                + "comment_count, created_at, updated_at) VALUES (1, '제목', '본문', 1, TRUE, 0, 0, 0, NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, writer_id, is_public, view_count, like_count, "
+                + "comment_count, created_at, updated_at) VALUES (2, '제목', '본문', 1, TRUE, 0, 0, 0, NOW(), NOW())");
+
+        // 게시글 1: 일반 모드 (대상 행 하나에 모든 쓰기)
+        long singleRowNanos = run(1L);
+
+        // 게시글 2: 쓰기 속도 측정 주기를 한 번 거쳐 분할 모드로 전환한 뒤 측정
+        likeCounter.add(LikeTargetType.POST, 2L, 0L, 1);
+        likeCounter.rebalance();
+        assertThat(likeCounter.isSharded(LikeTargetType.POST, 2L)).isTrue();
+        long shardedNanos = run(2L);
+
+        int total = THREADS * LIKES_PER_THREAD;
+        System.out.printf("likes=%,d threads=%d  single-row=%,d/s  sharded=%,d/s%n", total, THREADS,
+                total * 1_000_000_000L / singleRowNanos, total * 1_000_000_000L / shardedNanos);
+
+        // 합계는 정확해야 하고, 주기 처리 후에는 대상의 like_count로 옮겨져야 함
+        assertThat(likeCounter.shardedCount(LikeTargetType.POST, 2L)).isEqualTo(total + 1);
+        likeCounter.rebalance();
+        assertThat(likeCount(2L)).isEqualTo(total + 1);
+        assertThat(likeCount(1L)).isEqualTo(total);
+        assertThat(shardedNanos).isLessThan(singleRowNanos / 2);
+    }
+
+    private long run(Long postId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long firstUser = (long) t * LIKES_PER_THREAD + 1;
+                futures.add(executor.submit(() -> {
+                    for (long userId = firstUser; userId < firstUser + LIKES_PER_THREAD; userId++) {
+                        long user = userId;
+                        transactionTemplate.executeWithoutResult(status -> {
+                            likeCounter.add(LikeTargetType.POST, postId, user, 1);
+                            LockSupport.parkNanos(HOLD_NANOS);
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long likeCount(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Long.class, postId);
+    }
+}
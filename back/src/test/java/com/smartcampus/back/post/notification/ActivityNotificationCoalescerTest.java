@@ -0,0 +1,106 @@
+package com.smartcampus.back.post.notification;
+
+import com.smartcampus.back.post.enums.ActivityType;
+import com.smartcampus.back.post.enums.LikeTargetType;
+import com.smartcampus.back.post.event.ActivityEvent;
+import com.smartcampus.back.post.event.LikeToggledEvent;
+import com.smartcampus.back.post.repository.PostRepository;
+import com.smartcampus.back.post.repository.projection.ContentWriter;
+import com.smartcampus.back.post.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활동 알림 집계기 테스트
+ */
+class ActivityNotificationCoalescerTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long WRITER_ID = 1L;
+
+    private NotificationService notificationService;
+    private TransactionTemplate transactionTemplate;
+    private ActivityNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findWritersByIdIn(anyCollection())).thenReturn(List.of(new ContentWriter(POST_ID, WRITER_ID)));
+        transactionTemplate = mock(TransactionTemplate.class);
+        runTransactions();
+
+        coalescer = new ActivityNotificationCoalescer(notificationService, postRepository, transactionTemplate);
+        ReflectionTestUtils.setField(coalescer, "quietMs", 60_000L);
+        ReflectionTestUtils.setField(coalescer, "maxDelayMs", 300_000L);
+    }
+
+    @Test
+    void mergesLikesIntoOneNotificationWithoutUnlikedUsersOrWriter() {
+        like(2L, true);
+        like(3L, true);
+        like(WRITER_ID, true);
+        like(4L, true);
+        like(3L, false);
+
+        coalescer.flush();
+        verify(notificationService, never()).sendNotificationToUser(anyLong(), anyString(), anyString());
+
+        coalescer.flushAll();
+        verify(notificationService).sendNotificationToUser(WRITER_ID, "새 좋아요", "사용자 4님 외 1명이 회원님의 게시글을 좋아합니다.");
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    void ignoresActivityOnOwnContent() {
+        coalescer.onActivity(new ActivityEvent(ActivityType.POST_COMMENTED, POST_ID, WRITER_ID, WRITER_ID));
+
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    void keepsWindowsWhenSavingFails() {
+        coalescer.onActivity(new ActivityEvent(ActivityType.POST_COMMENTED, POST_ID, WRITER_ID, 2L));
+        doThrow(new CannotCreateTransactionException("DB 연결 실패")).when(transactionTemplate).execute(any());
+
+        coalescer.flushAll();
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+
+        // 실패 후 모인 활동과 합쳐 다음 주기에 한 번에 발송
+        coalescer.onActivity(new ActivityEvent(ActivityType.POST_COMMENTED, POST_ID, WRITER_ID, 3L));
+        runTransactions();
+        coalescer.flushAll();
+
+        verify(notificationService, times(1)).sendNotificationToUser(anyLong(), anyString(), anyString());
+        verify(notificationService).sendNotificationToUser(WRITER_ID, "새 댓글", "사용자 3님 외 1명이 회원님의 게시글에 댓글을 남겼습니다.");
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    private void runTransactions() {
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    private void like(Long userId, boolean liked) {
+        coalescer.onLikeToggled(new LikeToggledEvent(LikeTargetType.POST, POST_ID, userId, liked));
+    }
+}
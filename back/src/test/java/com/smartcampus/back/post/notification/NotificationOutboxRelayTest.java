@@ -0,0 +1,141 @@
+package com.smartcampus.back.post.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 발송 대기(outbox) 중계기 테스트
+ * 백그라운드 중계 스레드를 멈추고 {@link NotificationOutboxRelay#relayBatch()}를 직접 호출하여,
+ * 가져가기 → 발송 → 완료/재시도 기록과 임대 만료 항목의 재발송을 H2(MySQL 모드)에서 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "post.notification.gateway=fake",
+        "post.notification.outbox.max-attempts=2",
+        "post.notification.outbox.backoff-base-ms=60000"
+})
+class NotificationOutboxRelayTest {
+
+    private static final long USER_ID = 1L;
+    private static final String TOKEN = "token-1";
+
+    @Autowired
+    private NotificationOutboxRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PushMulticaster pushMulticaster;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        relay.stop();
+        jdbcTemplate.update("DELETE FROM notification_outbox");
+        jdbcTemplate.update("DELETE FROM device_tokens");
+        jdbcTemplate.update("INSERT INTO device_tokens (user_id, token, platform, last_seen) VALUES (?, ?, 'ANDROID', NOW())",
+                USER_ID, TOKEN);
+    }
+
+    @Test
+    void claimsSendsAndCompletes() {
+        long id = insertPending();
+        respond(new MulticastResult(1, 1, List.of()));
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        Map<String, Object> row = row(id);
+        assertThat(row.get("status")).isEqualTo("SENT");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat(row.get("claim_id")).isNull();
+        assertThat(row.get("processed_at")).isNotNull();
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void retryableFailureWaitsThenFailsAfterMaxAttempts() {
+        long id = insertPending();
+        respond(new MulticastResult(1, 0, List.of(PushResult.failure(TOKEN, "UNAVAILABLE", true))));
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        Map<String, Object> row = row(id);
+        assertThat(row.get("status")).isEqualTo("PENDING");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat(row.get("last_error")).isEqualTo("UNAVAILABLE");
+        assertThat(relay.relayBatch()).isZero();   // 백오프가 끝나기 전에는 가져가지 않음
+
+        jdbcTemplate.update("UPDATE notification_outbox SET available_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), id);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        row = row(id);
+        assertThat(row.get("status")).isEqualTo("FAILED");
+        assertThat(row.get("attempts")).isEqualTo(2);
+    }
+
+    @Test
+    void reclaimsEntriesWhoseLeaseExpired() {
+        // 전송 도중 멈춘 작업이 가져간 항목 (임대 만료) 과 아직 다른 작업이 처리 중인 항목
+        long expired = insert("SENDING", "crashed-worker", LocalDateTime.now().minusSeconds(1), 1);
+        long leased = insert("SENDING", "live-worker", LocalDateTime.now().plusMinutes(5), 1);
+        respond(new MulticastResult(1, 1, List.of()));
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        Map<String, Object> row = row(expired);
+        assertThat(row.get("status")).isEqualTo("SENT");
+        assertThat(row.get("attempts")).isEqualTo(2);
+        row = row(leased);
+        assertThat(row.get("status")).isEqualTo("SENDING");
+        assertThat(row.get("claim_id")).isEqualTo("live-worker");
+    }
+
+    @Test
+    void skipsUsersWithoutDevices() {
+        jdbcTemplate.update("DELETE FROM device_tokens");
+        long id = insertPending();
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        assertThat(row(id).get("status")).isEqualTo("SKIPPED");
+        verify(pushMulticaster, never()).send(anyList(), anyString(), anyString());
+    }
+
+    private void respond(MulticastResult result) {
+        when(pushMulticaster.send(anyList(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(result));
+    }
+
+    private long insertPending() {
+        return insert("PENDING", null, null, 0);
+    }
+
+    private long insert(String status, String claimId, LocalDateTime leaseUntil, int attempts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusSeconds(1));
+        jdbcTemplate.update("INSERT INTO notification_outbox (user_id, title, body, status, attempts, available_at, "
+                        + "claim_id, lease_until, created_at) VALUES (?, '새 댓글', '사용자 2님이 댓글을 남겼습니다.', ?, ?, ?, ?, ?, ?)",
+                USER_ID, status, attempts, now, claimId, leaseUntil == null ? null : Timestamp.valueOf(leaseUntil), now);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM notification_outbox", Long.class);
+    }
+
+    private Map<String, Object> row(long id) {
+        return jdbcTemplate.queryForMap("SELECT status, attempts, claim_id, last_error, processed_at "
+                + "FROM notification_outbox WHERE id = ?", id);
+    }
+}
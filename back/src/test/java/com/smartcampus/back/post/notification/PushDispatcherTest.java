@@ -0,0 +1,84 @@
+package com.smartcampus.back.post.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 비동기 푸시 발송기 테스트
+ */
+class PushDispatcherTest {
+
+    private PushGateway pushGateway;
+    private DeadTokenPruner deadTokenPruner;
+    private PushDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        pushGateway = mock(PushGateway.class);
+        deadTokenPruner = mock(DeadTokenPruner.class);
+        dispatcher = new PushDispatcher(pushGateway, deadTokenPruner);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(dispatcher, "workerCount", 1);
+        ReflectionTestUtils.setField(dispatcher, "deadlineMs", 5_000L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 10L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 10L);
+        ReflectionTestUtils.setField(dispatcher, "shutdownGraceMs", 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    void workerSurvivesUncheckedGatewayFailure() throws Exception {
+        // 첫 메시지는 Firebase 미초기화처럼 예상하지 못한 예외, 이후 메시지는 정상 전송
+        doThrow(new IllegalStateException("FirebaseApp with name [DEFAULT] doesn't exist."))
+                .doNothing()
+                .when(pushGateway).send(any(PushMessage.class), any(Duration.class));
+        dispatcher.start();
+
+        dispatcher.dispatch(new PushMessage("token-1", "제목", "본문"));
+        dispatcher.dispatch(new PushMessage("token-2", "제목", "본문"));
+        dispatcher.dispatch(new PushMessage("token-3", "제목", "본문"));
+
+        // 작업자가 하나뿐이므로 첫 예외 후에도 남은 메시지가 전송되어야 함 (재시도 없음)
+        verify(pushGateway, timeout(5_000).times(3)).send(any(PushMessage.class), any(Duration.class));
+        dispatcher.stop();
+
+        assertThat(dispatcher.failedCount()).isEqualTo(1);
+        assertThat(dispatcher.deliveredCount()).isEqualTo(2);
+        verify(deadTokenPruner, never()).report(anyString(), anyString());
+    }
+
+    @Test
+    void retriesRetryableFailureThenDelivers() throws Exception {
+        doThrow(new PushDeliveryException("UNAVAILABLE", true, null, "일시적 오류", null))
+                .doNothing()
+                .when(pushGateway).send(any(PushMessage.class), any(Duration.class));
+        dispatcher.start();
+
+        dispatcher.dispatch(new PushMessage("token-1", "제목", "본문"));
+
+        verify(pushGateway, timeout(5_000).times(2)).send(any(PushMessage.class), any(Duration.class));
+        dispatcher.stop();
+
+        assertThat(dispatcher.deliveredCount()).isEqualTo(1);
+        assertThat(dispatcher.failedCount()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartcampus.back.post.notification;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 푸시 전송 벤치마크 (./gradlew benchmark)
+ * 가짜 게이트웨이(요청당 지연, 토큰별 일시 실패)로 3만 대상 공지를 보내, 500개 묶음을 동시에 전송하고
+ * 일시 실패 토큰만 재시도하여 모든 토큰이 수 초 안에 전송되는지 확인합니다.
+ */
+@Tag("benchmark")
+class PushMulticasterBenchmarkTest {
+
+    private static final int TOKENS = 30_000;
+    private static final long LATENCY_MS = 300;
+
+    @Test
+    void campusWideAnnouncementFinishesInSeconds() throws Exception {
+        FakePushGateway gateway = new FakePushGateway();
+        ReflectionTestUtils.setField(gateway, "latencyMs", LATENCY_MS);
+        ReflectionTestUtils.setField(gateway, "failureRate", 0.05);
+
+        PushMulticaster multicaster = new PushMulticaster(gateway);
+        ReflectionTestUtils.setField(multicaster, "maxInFlight", 16);
+        ReflectionTestUtils.setField(multicaster, "deadlineMs", 60_000L);
+        ReflectionTestUtils.setField(multicaster, "maxAttempts", 5);
+        ReflectionTestUtils.setField(multicaster, "backoffBaseMs", 100L);
+        ReflectionTestUtils.setField(multicaster, "backoffMaxMs", 1_000L);
+        multicaster.start();
+
+        List<String> tokens = new ArrayList<>(TOKENS + 100);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add("token-" + i);
+        }
+        tokens.addAll(tokens.subList(0, 100));
+
+        try {
+            long start = System.nanoTime();
+            MulticastResult result = multicaster.send(tokens, "공지", "본문").get();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            int requests = (TOKENS + PushGateway.MAX_MULTICAST_TOKENS - 1) / PushGateway.MAX_MULTICAST_TOKENS;
+            System.out.printf("tokens=%,d chunks=%d in-flight=16 latency=%dms  elapsed=%,dms (serial ~%,dms)  success=%,d failure=%,d%n",
+                    TOKENS, requests, LATENCY_MS, elapsedMs, requests * LATENCY_MS,
+                    result.successCount(), result.failureCount());
+
+            assertThat(result.tokenCount()).isEqualTo(TOKENS);
+            assertThat(result.successCount()).isEqualTo(TOKENS);
+            assertThat(gateway.sentCount()).isEqualTo(TOKENS);
+            assertThat(elapsedMs).isLessThan(requests * LATENCY_MS / 2);
+        } finally {
+            multicaster.shutdown();
+        }
+    }
+}
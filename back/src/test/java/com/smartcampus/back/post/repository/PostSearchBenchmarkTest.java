@@ -0,0 +1,107 @@
+package com.smartcampus.back.post.repository;
+
+import com.smartcampus.back.post.dto.post.PostSearchCondition;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동적 조건 검색 벤치마크 (./gradlew benchmark)
+ * 테이블이 커져도 (필터 컬럼, created_at) 복합 인덱스 덕분에 필터 검색 시간이 거의 일정한지 확인합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+class PostSearchBenchmarkTest {
+
+    private static final int[] TABLE_SIZES = {20_000, 80_000, 320_000};
+    private static final int WRITERS = 1_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void filteredSearchStaysFlatAsTableGrows() {
+        PostSearchCondition byWriter = new PostSearchCondition();
+        byWriter.setWriterId(7L);
+        byWriter.setStartDate(LocalDate.now().minusDays(90));
+
+        PostSearchCondition publicRecent = new PostSearchCondition();
+        publicRecent.setIsPublic(true);
+        publicRecent.setStartDate(LocalDate.now().minusDays(30));
+
+        long[] writerNanos = new long[TABLE_SIZES.length];
+        long[] publicNanos = new long[TABLE_SIZES.length];
+        int inserted = 0;
+        for (int i = 0; i < TABLE_SIZES.length; i++) {
+            insertPosts(inserted, TABLE_SIZES[i]);
+            inserted = TABLE_SIZES[i];
+
+            writerNanos[i] = medianNanos(byWriter);
+            publicNanos[i] = medianNanos(publicRecent);
+            System.out.printf("rows=%,d  writer+date=%,dµs  public+date=%,dµs%n",
+                    inserted, writerNanos[i] / 1_000, publicNanos[i] / 1_000);
+        }
+
+        assertThat(explain("SELECT id FROM posts WHERE writer_id = 7 AND created_at >= DATEADD('DAY', -90, NOW()) "
+                + "ORDER BY created_at DESC, id DESC LIMIT 50"))
+                .containsIgnoringCase("idx_posts_writer_created_at");
+        assertThat(explain("SELECT id FROM posts WHERE is_public = TRUE AND created_at >= DATEADD('DAY', -30, NOW()) "
+                + "ORDER BY created_at DESC, id DESC LIMIT 50"))
+                .containsIgnoringCase("idx_posts_public_created_at");
+
+        // 행 수가 16배로 늘어도 (전체 스캔이면 16배) 응답 시간은 수 배 이내로 유지되어야 함
+        int last = TABLE_SIZES.length - 1;
+        assertThat(writerNanos[last]).isLessThan(writerNanos[0] * 4 + 2_000_000);
+        assertThat(publicNanos[last]).isLessThan(publicNanos[0] * 4 + 2_000_000);
+    }
+
+    private void insertPosts(int from, int to) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int n = from; n < to; n++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes((long) n * 7 % (365L * 24 * 60)));
+            rows.add(new Object[]{"제목 " + n, "본문 " + n, (long) (n % WRITERS) + 1, n % 2 == 0, createdAt, createdAt});
+            if (rows.size() == BATCH_SIZE || n == to - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO posts (title, content, writer_id, is_public, view_count, "
+                        + "like_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private long medianNanos(PostSearchCondition condition) {
+        for (int i = 0; i < WARMUP; i++) {
+            postRepository.findSummaries(PostSpecifications.matching(condition), 50);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertThat(postRepository.findSummaries(PostSpecifications.matching(condition), 50)).isNotEmpty();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
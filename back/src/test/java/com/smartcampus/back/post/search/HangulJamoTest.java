@@ -0,0 +1,74 @@
+package com.smartcampus.back.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한글 자모 분해 및 자모 접두어 확장 테스트
+ */
+class HangulJamoTest {
+
+    @Test
+    void decomposesSyllablesIntoSingleJamo() {
+        assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");   // 겹받침
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");     // 겹모음
+        assertThat(HangulJamo.decompose("꿈")).isEqualTo("ㄱㄱㅜㅁ");   // 쌍자음
+    }
+
+    @Test
+    void decomposesStandaloneCompoundJamo() {
+        assertThat(HangulJamo.decompose("ㄲ")).isEqualTo("ㄱㄱ");
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄱ")).isEqualTo("ㄱ");
+    }
+
+    @Test
+    void keepsNonHangulCharacters() {
+        assertThat(HangulJamo.decompose("Spring 3.4")).isEqualTo("Spring 3.4");
+        assertThat(HangulJamo.decompose("a닭!")).isEqualTo("aㄷㅏㄹㄱ!");
+        assertThat(HangulJamo.decompose("")).isEmpty();
+    }
+
+    @Test
+    void typingInProgressIsPrefixOfCompletedSyllable() {
+        // "다" → "달" → "닭"으로 입력하는 동안의 자모열은 모두 완성된 글자의 자모열의 접두어
+        String completed = HangulJamo.decompose("닭갈비");
+        assertThat(completed).startsWith(HangulJamo.decompose("다"));
+        assertThat(completed).startsWith(HangulJamo.decompose("달"));
+        assertThat(completed).startsWith(HangulJamo.decompose("닭ㄱ"));
+        assertThat(completed).startsWith(HangulJamo.decompose("닭가"));
+    }
+
+    @Test
+    void classifiesHangulCharacters() {
+        assertThat(HangulJamo.isSyllable('가')).isTrue();
+        assertThat(HangulJamo.isSyllable('힣')).isTrue();
+        assertThat(HangulJamo.isSyllable('ㄱ')).isFalse();
+        assertThat(HangulJamo.isJamo('ㄱ')).isTrue();
+        assertThat(HangulJamo.isJamo('ㅣ')).isTrue();
+        assertThat(HangulJamo.isHangul('a')).isFalse();
+        assertThat(HangulJamo.isHangul('1')).isFalse();
+    }
+
+    @Test
+    void expandsJamoPrefixToIndexedTerms() {
+        KoreanNgramTokenizer tokenizer = new KoreanNgramTokenizer();
+        InvertedIndex index = new InvertedIndex();
+        index.addDocument(1L, tokenizer.tokenize("닭갈비 맛집"));
+        index.addDocument(2L, tokenizer.tokenize("달빛 산책 spring"));
+
+        // 받침을 입력하는 중인 "달"은 "달", "달빛"뿐 아니라 "닭"으로 시작하는 색인어까지 확장됨
+        List<String> terms = index.expandPrefix(HangulJamo.decompose("달"), 10);
+        assertThat(terms).containsExactlyInAnyOrder("달", "달빛", "닭", "닭갈", "닭갈비");
+
+        assertThat(index.expandPrefix(HangulJamo.decompose("닭ㄱ"), 10)).containsExactly("닭갈", "닭갈비");
+        assertThat(index.expandPrefix(HangulJamo.decompose("달"), 2)).hasSize(2);
+        // 영문 색인어는 자모 색인에 등록되지 않음
+        assertThat(index.expandPrefix("sp", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartcampus.back.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한국어 n-gram 토크나이저 테스트
+ */
+class KoreanNgramTokenizerTest {
+
+    private final KoreanNgramTokenizer tokenizer = new KoreanNgramTokenizer();
+
+    @Test
+    void indexesHangulAsOneToThreeGrams() {
+        assertThat(tokenizer.tokenize("데이터베이스")).containsExactly(
+                "데", "이", "터", "베", "이", "스",
+                "데이", "이터", "터베", "베이", "이스",
+                "데이터", "이터베", "터베이", "베이스");
+        assertThat(tokenizer.tokenize("닭")).containsExactly("닭");
+    }
+
+    @Test
+    void queriesHangulWithLongestGrams() {
+        assertThat(tokenizer.tokenizeQuery("데이터베이스")).containsExactly("데이터", "이터베", "터베이", "베이스");
+        assertThat(tokenizer.tokenizeQuery("자바")).containsExactly("자바");
+        assertThat(tokenizer.tokenizeQuery("닭")).containsExactly("닭");
+    }
+
+    @Test
+    void indexesLatinWordWithEdgeGramsAndWholeWord() {
+        assertThat(tokenizer.tokenize("SpringBoot")).containsExactly(
+                "sp", "spr", "spri", "sprin", "spring", "springb", "springbo", "springboo", "springboot");
+        assertThat(tokenizer.tokenizeQuery("SpringBoot")).containsExactly("springboot");
+    }
+
+    @Test
+    void shortLatinWordsAreIndexedOnlyAsWholeWord() {
+        assertThat(tokenizer.tokenize("a")).containsExactly("a");
+        assertThat(tokenizer.tokenize("js")).containsExactly("js");
+        assertThat(tokenizer.tokenize("jvm")).containsExactly("jv", "jvm");
+    }
+
+    @Test
+    void edgeGramsStopAtTwentyCharacters() {
+        String twenty = "abcdefghijklmnopqrst";
+        List<String> expected = new ArrayList<>();
+        for (int n = 2; n < 20; n++) {
+            expected.add(twenty.substring(0, n));
+        }
+        expected.add(twenty);
+        assertThat(tokenizer.tokenize(twenty)).containsExactlyElementsOf(expected);
+
+        // 21자 단어: 길이 2~20 접두어 + 단어 전체, 20자 접두어는 한 번만
+        String longWord = twenty + "u";
+        List<String> tokens = tokenizer.tokenize(longWord);
+        assertThat(tokens).hasSize(19 + 1);
+        assertThat(tokens.get(0)).isEqualTo("ab");
+        assertThat(tokens.get(18)).isEqualTo(twenty);
+        assertThat(tokens.get(19)).isEqualTo(longWord);
+    }
+
+    @Test
+    void splitsMixedTextIntoRuns() {
+        assertThat(tokenizer.tokenize("JPA로 DB-조회")).containsExactly(
+                "jp", "jpa", "로", "db", "조", "회", "조회");
+        assertThat(tokenizer.tokenizeQuery("Java3버전!")).containsExactly("java3", "버전");
+    }
+
+    @Test
+    void emptyTextHasNoTokens() {
+        assertThat(tokenizer.tokenize(null)).isEmpty();
+        assertThat(tokenizer.tokenize("")).isEmpty();
+        assertThat(tokenizer.tokenizeQuery("  !? ")).isEmpty();
+    }
+}
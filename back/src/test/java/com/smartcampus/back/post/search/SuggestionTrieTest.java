@@ -0,0 +1,94 @@
+package com.smartcampus.back.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 압축 트라이 테스트
+ */
+class SuggestionTrieTest {
+
+    @Test
+    void suggestsOnlyCandidatesWithPrefix() {
+        SuggestionTrie trie = new SuggestionTrie(5);
+        trie.put("spring", "Spring", 3);
+        trie.put("springboot", "Spring Boot", 2);
+        trie.put("spark", "Spark", 1);
+        trie.put("java", "Java", 10);
+
+        assertThat(trie.suggest("spr", 5)).containsExactly("Spring", "Spring Boot");
+        assertThat(trie.suggest("sp", 5)).containsExactly("Spring", "Spring Boot", "Spark");
+        assertThat(trie.suggest("springb", 5)).containsExactly("Spring Boot");
+        assertThat(trie.suggest("python", 5)).isEmpty();
+        assertThat(trie.suggest("springbootx", 5)).isEmpty();
+    }
+
+    @Test
+    void ordersByWeightThenKeyAndKeepsTopK() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        trie.put("ab", "ab", 1);
+        trie.put("ac", "ac", 5);
+        trie.put("ad", "ad", 5);
+        trie.put("ae", "ae", 2);
+        trie.put("af", "af", 4);
+
+        // 가중치 내림차순, 같은 가중치는 키 오름차순, 노드마다 상위 3개만 보관
+        assertThat(trie.suggest("a", 3)).containsExactly("ac", "ad", "af");
+        assertThat(trie.suggest("a", 2)).containsExactly("ac", "ad");
+        assertThat(trie.suggest("", 3)).containsExactly("ac", "ad", "af");
+    }
+
+    @Test
+    void updatesWeightAndText() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        trie.put("ab", "ab", 1);
+        trie.put("ac", "ac", 2);
+
+        trie.put("ab", "AB", 10);
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.suggest("a", 3)).containsExactly("AB", "ac");
+    }
+
+    @Test
+    void removesCandidateAndRestoresHiddenOnes() {
+        SuggestionTrie trie = new SuggestionTrie(2);
+        trie.put("ab", "ab", 3);
+        trie.put("ac", "ac", 2);
+        trie.put("ad", "ad", 1);
+        assertThat(trie.suggest("a", 2)).containsExactly("ab", "ac");
+
+        assertThat(trie.remove("ab")).isTrue();
+        assertThat(trie.remove("ab")).isFalse();
+        assertThat(trie.remove("a")).isFalse();   // 간선 중간의 접두어는 후보가 아님
+
+        // 상위 2개 밖에 있던 후보가 다시 노출됨
+        assertThat(trie.suggest("a", 2)).containsExactly("ac", "ad");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void nonPositiveWeightRemovesCandidate() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        trie.put("spring", "Spring", 3);
+        trie.put("springboot", "Spring Boot", 2);
+
+        trie.put("spring", "Spring", 0);
+
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.suggest("spring", 3)).containsExactly("Spring Boot");
+    }
+
+    @Test
+    void splitsEdgeWhenKeyEndsInsideIt() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        trie.put("springboot", "Spring Boot", 1);
+        trie.put("spring", "Spring", 2);
+        trie.put("sprint", "Sprint", 3);
+
+        assertThat(trie.suggest("sprin", 3)).containsExactly("Sprint", "Spring", "Spring Boot");
+        assertThat(trie.suggest("springbo", 3)).containsExactly("Spring Boot");
+        assertThat(trie.size()).isEqualTo(3);
+    }
+}